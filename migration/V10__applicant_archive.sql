@@ -0,0 +1,22 @@
+-- Cold applicants are moved here by the archival job. applicant itself stays unpartitioned: a
+-- partitioned table cannot enforce uc_applicant_email or uk_applicant_id without the partition
+-- key, and registration relies on both being global.
+CREATE TABLE applicant_archive
+(
+    LIKE applicant,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT pk_applicant_archive PRIMARY KEY (pk, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- monthly partitions are created by the job ahead of each move; this only catches stragglers
+CREATE TABLE applicant_archive_default PARTITION OF applicant_archive DEFAULT;
+
+CREATE INDEX idx_applicant_archive_id ON applicant_archive (id);
+CREATE INDEX idx_applicant_archive_email ON applicant_archive (email);
+
+ALTER TABLE applicant_archive
+    ADD CONSTRAINT fk_applicant_archive_on_loan_pk FOREIGN KEY (loan_pk) REFERENCES loan (pk);
+
+-- must match the cold-row predicate in ApplicantArchiveJdbcRepository exactly to be used
+CREATE INDEX idx_applicant_cold_created_at ON applicant (created_at)
+    WHERE status = 'REJECTED' OR (status = 'APPROVED' AND balance = 0);
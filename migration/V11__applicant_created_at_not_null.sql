@@ -0,0 +1,8 @@
+-- keyset pagination compares (created_at, pk) row values, which skips rows with a NULL created_at;
+-- legacy rows without one sort first, by their last update where known
+UPDATE applicant
+SET created_at = COALESCE(updated_at, TIMESTAMP '1970-01-01 00:00:00')
+WHERE created_at IS NULL;
+
+ALTER TABLE applicant
+    ALTER COLUMN created_at SET NOT NULL;
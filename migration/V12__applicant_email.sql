@@ -0,0 +1,13 @@
+-- Every email ever registered, live or archived. Registration claims the email here in the same
+-- statement that inserts the applicant; moving a row to applicant_archive takes it out of
+-- uc_applicant_email but leaves its claim here, so the email stays taken.
+CREATE TABLE applicant_email
+(
+    email VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_applicant_email PRIMARY KEY (email)
+);
+
+INSERT INTO applicant_email (email)
+SELECT email FROM applicant
+UNION
+SELECT email FROM applicant_archive;
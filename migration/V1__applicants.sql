@@ -36,6 +36,4 @@ ALTER TABLE applicant
     ADD CONSTRAINT uc_applicant_email UNIQUE (email);
 
 ALTER TABLE applicant
-    ADD CONSTRAINT FK_APPLICANT_ON_LOAN_PK FOREIGN KEY (loan_pk) REFERENCES loan (pk);
-
-DROP SEQUENCE applicant_pk_seq CASCADE;
\ No newline at end of file
+    ADD CONSTRAINT FK_APPLICANT_ON_LOAN_PK FOREIGN KEY (loan_pk) REFERENCES loan (pk);
\ No newline at end of file
@@ -0,0 +1 @@
+CREATE INDEX idx_applicant_created_at_pk ON applicant (created_at, pk);
@@ -0,0 +1,13 @@
+-- Hibernate cannot batch inserts for IDENTITY keys, so both tables move to sequences that hand out
+-- blocks of 50 ids per nextval (pooled-lo). The column default keeps plain SQL inserts working.
+ALTER TABLE applicant ALTER COLUMN pk DROP IDENTITY IF EXISTS;
+ALTER TABLE loan ALTER COLUMN pk DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE applicant_seq INCREMENT BY 50 OWNED BY applicant.pk;
+CREATE SEQUENCE loan_seq INCREMENT BY 50 OWNED BY loan.pk;
+
+SELECT setval('applicant_seq', COALESCE((SELECT MAX(pk) FROM applicant), 0) + 1, false);
+SELECT setval('loan_seq', COALESCE((SELECT MAX(pk) FROM loan), 0) + 1, false);
+
+ALTER TABLE applicant ALTER COLUMN pk SET DEFAULT nextval('applicant_seq');
+ALTER TABLE loan ALTER COLUMN pk SET DEFAULT nextval('loan_seq');
@@ -0,0 +1,3 @@
+CREATE UNIQUE INDEX uk_applicant_id ON applicant (id);
+
+CREATE UNIQUE INDEX uk_loan_id ON loan (id);
@@ -0,0 +1,13 @@
+CREATE TABLE outbox_event
+(
+    pk           BIGINT GENERATED ALWAYS AS IDENTITY NOT NULL,
+    event_type   VARCHAR(255)                        NOT NULL,
+    payload      TEXT                                NOT NULL,
+    attempts     INTEGER                             NOT NULL DEFAULT 0,
+    last_error   VARCHAR(1000),
+    available_at TIMESTAMP WITHOUT TIME ZONE         NOT NULL,
+    created_at   TIMESTAMP WITHOUT TIME ZONE         NOT NULL,
+    CONSTRAINT pk_outbox_event PRIMARY KEY (pk)
+);
+
+CREATE INDEX idx_outbox_event_available_at_pk ON outbox_event (available_at, pk);
@@ -0,0 +1,13 @@
+CREATE TABLE idempotency_key
+(
+    idempotency_key VARCHAR(512)                NOT NULL,
+    fingerprint     VARCHAR(64)                 NOT NULL,
+    status          INTEGER                     NOT NULL,
+    content_type    VARCHAR(255),
+    body            BYTEA,
+    created_at      TIMESTAMP WITH TIME ZONE    NOT NULL,
+    expires_at      TIMESTAMP WITH TIME ZONE    NOT NULL,
+    CONSTRAINT pk_idempotency_key PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key (expires_at);
@@ -0,0 +1,15 @@
+CREATE TABLE portfolio_summary
+(
+    status     VARCHAR(255)    NOT NULL,
+    stripe     SMALLINT        NOT NULL,
+    applicants BIGINT          NOT NULL,
+    balance    DECIMAL         NOT NULL,
+    credited   DECIMAL         NOT NULL,
+    CONSTRAINT pk_portfolio_summary PRIMARY KEY (status, stripe)
+);
+
+INSERT INTO portfolio_summary (status, stripe, applicants, balance, credited)
+SELECT COALESCE(a.status, 'DRAFT'), 0, COUNT(*), COALESCE(SUM(a.balance), 0), COALESCE(SUM(l.credited), 0)
+FROM applicant a
+         LEFT JOIN loan l ON l.pk = a.loan_pk
+GROUP BY COALESCE(a.status, 'DRAFT');
@@ -0,0 +1,15 @@
+CREATE TABLE repayment_installment
+(
+    loan_id            UUID    NOT NULL,
+    installment_number INTEGER NOT NULL,
+    due_date           DATE    NOT NULL,
+    principal          DECIMAL NOT NULL,
+    interest           DECIMAL NOT NULL,
+    balance_after      DECIMAL NOT NULL,
+    CONSTRAINT pk_repayment_installment PRIMARY KEY (loan_id, installment_number)
+);
+
+-- installments are inserted over JDBC before Hibernate flushes the new loan, so the check waits for commit
+ALTER TABLE repayment_installment
+    ADD CONSTRAINT fk_repayment_installment_on_loan_id FOREIGN KEY (loan_id) REFERENCES loan (id)
+        DEFERRABLE INITIALLY DEFERRED;
@@ -0,0 +1,13 @@
+CREATE TABLE accrual_checkpoint
+(
+    run_date     DATE                     NOT NULL,
+    chunk_start  BIGINT                   NOT NULL,
+    chunk_end    BIGINT                   NOT NULL,
+    loans        INTEGER,
+    interest     DECIMAL,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT pk_accrual_checkpoint PRIMARY KEY (run_date, chunk_start)
+);
+
+-- accrual reads applicants by loan pk range, one range per chunk
+CREATE INDEX idx_applicant_loan_pk ON applicant (loan_pk);
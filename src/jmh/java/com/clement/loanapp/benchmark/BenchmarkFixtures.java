@@ -0,0 +1,60 @@
+package com.clement.loanapp.benchmark;
+
+import com.clement.loanapp.loanApplication.domain.model.Applicant;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantRepository;
+import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Shared data and an in-memory {@link ApplicantRepository} for the benchmarks, so they measure
+ * service code rather than a database.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Applicant applicant(int i, boolean eligible) {
+        return Applicant.builder()
+                .pk(i)
+                .id(UUID.randomUUID())
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .email("applicant" + i + "@example.com")
+                .monthlyIncome(new BigDecimal(eligible ? "5000.00" : "2000.00"))
+                .monthlyPayment(new BigDecimal("1000.00"))
+                .requestLoanAmount(new BigDecimal("10000.00"))
+                .tenor(12)
+                .status(LoanStatus.DRAFT)
+                .creditCheck(false)
+                .createdAt(Instant.parse("2025-01-01T00:00:00Z").plusSeconds(i))
+                .build();
+    }
+
+    /**
+     * Builds a repository whose methods are answered by {@code answers}, keyed by method name.
+     * Anything else returns the method's default, which benchmarks must not rely on.
+     */
+    static ApplicantRepository repository(Map<String, Function<Object[], Object>> answers) {
+        return (ApplicantRepository) Proxy.newProxyInstance(
+                ApplicantRepository.class.getClassLoader(),
+                new Class<?>[]{ApplicantRepository.class},
+                (proxy, method, args) -> {
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer != null) {
+                        return answer.apply(args);
+                    }
+                    if (method.getName().equals("save")) {
+                        return args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package com.clement.loanapp.benchmark;
+
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityEngine;
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityPolicy;
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityRuleDefinition;
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityRuleFactory;
+import com.clement.loanapp.loanApplication.service.eligibility.StandardEligibilityRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Eligibility evaluation: the former {@code checkCredit} BigDecimal arithmetic against the
+ * compiled default policy and a four-rule policy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EligibilityBenchmark {
+    private final BigDecimal monthlyIncome = new BigDecimal("5000.00");
+    private final BigDecimal monthlyPayment = new BigDecimal("1000.00");
+    private final BigDecimal loanAmount = new BigDecimal("10000.00");
+
+    private EligibilityEngine engine;
+    private EligibilityPolicy fourRules;
+
+    @Setup
+    public void setUp() {
+        engine = new EligibilityEngine();
+        Map<String, EligibilityRuleFactory> factories = Arrays.stream(StandardEligibilityRules.values())
+                .collect(Collectors.toMap(EligibilityRuleFactory::type, Function.identity()));
+        fourRules = EligibilityPolicy.compile(List.of(
+                new EligibilityRuleDefinition("MIN_INCOME_MULTIPLE", Map.of("multiple", "3"), null, null),
+                new EligibilityRuleDefinition("MAX_DEBT_TO_INCOME", Map.of("max-ratio", "0.35"), null, null),
+                new EligibilityRuleDefinition("TENOR_RANGE", Map.of("min", "1", "max", "12"), null, null),
+                new EligibilityRuleDefinition("AMOUNT_RANGE", Map.of("min", "100", "max", "50000"), null, null)
+        ), factories);
+    }
+
+    @Benchmark
+    public boolean legacyCheckCredit() {
+        BigDecimal threshold = monthlyPayment.multiply(BigDecimal.valueOf(3));
+        return monthlyIncome.compareTo(threshold) > 0;
+    }
+
+    @Benchmark
+    public boolean defaultPolicy() {
+        return engine.isEligible(monthlyIncome, monthlyPayment, loanAmount, 12);
+    }
+
+    @Benchmark
+    public boolean fourRulePolicy() {
+        return fourRules.isEligible(monthlyIncome, monthlyPayment, loanAmount, 12);
+    }
+}
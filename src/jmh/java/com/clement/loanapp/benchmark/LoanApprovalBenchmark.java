@@ -0,0 +1,112 @@
+package com.clement.loanapp.benchmark;
+
+import com.clement.loanapp.loanApplication.ApplicantCacheProperties;
+import com.clement.loanapp.loanApplication.PagingProperties;
+import com.clement.loanapp.loanApplication.PortfolioProperties;
+import com.clement.loanapp.loanApplication.RepaymentProperties;
+import com.clement.loanapp.loanApplication.domain.dto.ApprovalRequest;
+import com.clement.loanapp.loanApplication.domain.event.ApproveLoanEvent;
+import com.clement.loanapp.loanApplication.domain.model.Applicant;
+import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+import com.clement.loanapp.loanApplication.domain.model.PortfolioSummary;
+import com.clement.loanapp.loanApplication.domain.model.PortfolioSummaryJdbcRepository;
+import com.clement.loanapp.loanApplication.domain.model.RepaymentInstallmentJdbcRepository;
+import com.clement.loanapp.loanApplication.service.ApplicantCache;
+import com.clement.loanapp.loanApplication.service.LoanApplicationService;
+import com.clement.loanapp.loanApplication.service.LoanMetrics;
+import com.clement.loanapp.loanApplication.service.PortfolioStatistics;
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityEngine;
+import com.clement.loanapp.loanApplication.service.repayment.RepaymentSchedule;
+import com.clement.loanapp.loanApplication.service.repayment.RepaymentScheduleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-request service paths with the repository stubbed out: single approval and a 50-event
+ * approval batch. Applicant listing is projected to {@code ApplicantResponse} by the query
+ * itself, so it has no service-side cost left to measure here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoanApprovalBenchmark {
+    private static final int BATCH_SIZE = 50;
+
+    private final ApprovalRequest approvalRequest = new ApprovalRequest(LoanStatus.APPROVED);
+    private final String applicantId = UUID.randomUUID().toString();
+
+    private LoanApplicationService service;
+    private List<ApproveLoanEvent> batch;
+
+    @Setup
+    public void setUp() {
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new ApproveLoanEvent("applicant" + i + "@example.com", new BigDecimal("10000.00")));
+        }
+
+        Map<String, Function<Object[], Object>> answers = Map.of(
+                // a fresh DRAFT applicant every call, otherwise the first approval short-circuits the rest
+                "findApplicantById", args -> Optional.of(BenchmarkFixtures.applicant(1, true)),
+                "findAllByEmailIn", args -> {
+                    List<Applicant> applicants = new ArrayList<>(BATCH_SIZE);
+                    for (int i = 0; i < BATCH_SIZE; i++) {
+                        applicants.add(BenchmarkFixtures.applicant(i, i % 4 != 0));
+                    }
+                    return applicants;
+                },
+                "saveAll", args -> args[0]
+        );
+
+        service = new LoanApplicationService(
+                BenchmarkFixtures.repository(answers),
+                // approval paths never insert applicants, so the JDBC repository stays unused
+                null,
+                // findApplicantById always hits, so the archive is never consulted
+                null,
+                event -> {
+                },
+                new EligibilityEngine(),
+                new LoanMetrics(new SimpleMeterRegistry()),
+                new ApplicantCache(new ApplicantCacheProperties(10_000, Duration.ofMinutes(5)), new SimpleMeterRegistry()),
+                new PagingProperties(500),
+                new PortfolioStatistics(new PortfolioSummaryJdbcRepository(null) {
+                    @Override
+                    public void addToStripe(List<PortfolioSummary> changes, int stripe) {
+                    }
+                }, new PortfolioProperties(16)),
+                new RepaymentScheduleService(new RepaymentInstallmentJdbcRepository(null) {
+                    @Override
+                    public void insertAll(RepaymentSchedule schedule, UUID[] loanIds) {
+                    }
+                }, new RepaymentProperties(1500))
+        );
+    }
+
+    @Benchmark
+    public LoanStatus approveLoan() {
+        return service.approveLoan(approvalRequest, applicantId);
+    }
+
+    @Benchmark
+    public Set<String> approveBatchOf50() {
+        return service.loanApprovals(batch);
+    }
+}
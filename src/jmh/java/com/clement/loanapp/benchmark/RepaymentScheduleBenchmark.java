@@ -0,0 +1,79 @@
+package com.clement.loanapp.benchmark;
+
+import com.clement.loanapp.loanApplication.service.repayment.RepaymentSchedule;
+import com.clement.loanapp.loanApplication.service.repayment.RepaymentScheduleCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repayment schedules per second: a per-step BigDecimal annuity schedule against the scaled-long
+ * calculator, for one 12-month loan and for a 10,000-loan portfolio in one call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RepaymentScheduleBenchmark {
+    private static final int PORTFOLIO_SIZE = 10_000;
+    private static final int RATE_BASIS_POINTS = 1500;
+
+    private final LocalDate firstDueDate = LocalDate.of(2026, 1, 31);
+    private final BigDecimal amount = new BigDecimal("10000.00");
+
+    private RepaymentScheduleCalculator calculator;
+    private long[] principals;
+    private int[] tenors;
+
+    @Setup
+    public void setUp() {
+        calculator = new RepaymentScheduleCalculator(RATE_BASIS_POINTS);
+        SplittableRandom random = new SplittableRandom(42);
+        principals = new long[PORTFOLIO_SIZE];
+        tenors = new int[PORTFOLIO_SIZE];
+        for (int i = 0; i < PORTFOLIO_SIZE; i++) {
+            principals[i] = random.nextLong(100_00, 50_000_00);
+            tenors[i] = random.nextInt(1, 13);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSchedule() {
+        MathContext context = MathContext.DECIMAL64;
+        BigDecimal monthlyRate = BigDecimal.valueOf(RATE_BASIS_POINTS).divide(BigDecimal.valueOf(120_000), context);
+        BigDecimal payment = amount.multiply(monthlyRate)
+                .divide(BigDecimal.ONE.subtract(BigDecimal.ONE.add(monthlyRate).pow(-12, context)), context)
+                .setScale(2, RoundingMode.HALF_UP);
+        BigDecimal balance = amount;
+        BigDecimal totalInterest = BigDecimal.ZERO;
+        for (int month = 0; month < 12; month++) {
+            BigDecimal interest = balance.multiply(monthlyRate).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal principal = month == 11 ? balance : payment.subtract(interest);
+            balance = balance.subtract(principal);
+            totalInterest = totalInterest.add(interest);
+        }
+        return totalInterest;
+    }
+
+    @Benchmark
+    public RepaymentSchedule scaledLongSchedule() {
+        return calculator.schedule(1_000_000, 12, firstDueDate);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PORTFOLIO_SIZE)
+    public RepaymentSchedule scaledLongPortfolio() {
+        return calculator.scheduleAll(principals, tenors, firstDueDate);
+    }
+}
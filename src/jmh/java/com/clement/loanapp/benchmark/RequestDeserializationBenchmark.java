@@ -0,0 +1,42 @@
+package com.clement.loanapp.benchmark;
+
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantLoanRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading an {@code /apply} body. The web layer uses Jackson 3; the Jackson 2 mapper is the one
+ * that applies {@code StringTrimmerDeserializer}, so both are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestDeserializationBenchmark {
+    private final byte[] body = """
+            {"firstName":"  John ","lastName":" Doe ","email":" john.doe@example.com ",
+             "loanAmount":10000.00,"tenor":12,"monthlyIncome":5000.00,"monthlyPayment":1000.00}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final JsonMapper jackson3 = JsonMapper.builder().build();
+    private final ObjectMapper jackson2 = new ObjectMapper();
+
+    @Benchmark
+    public ApplicantLoanRequest jackson3() {
+        return jackson3.readValue(body, ApplicantLoanRequest.class);
+    }
+
+    @Benchmark
+    public ApplicantLoanRequest jackson2WithStringTrimmer() throws IOException {
+        return jackson2.readValue(body, ApplicantLoanRequest.class);
+    }
+}
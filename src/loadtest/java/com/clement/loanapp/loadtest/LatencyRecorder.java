@@ -0,0 +1,69 @@
+package com.clement.loanapp.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Raw per-request latencies for one operation, recorded by a single worker thread and merged
+ * once the run is over. Keeping every sample makes p999 exact rather than bucketed.
+ */
+final class LatencyRecorder {
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    static Summary summarize(String operation, Iterable<LatencyRecorder> recorders, double seconds) {
+        int total = 0;
+        long errors = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.count;
+            errors += recorder.errors;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.count);
+            offset += recorder.count;
+        }
+        Arrays.sort(merged);
+        return new Summary(
+                operation,
+                total,
+                errors,
+                total / seconds,
+                percentileMillis(merged, 0.50),
+                percentileMillis(merged, 0.99),
+                percentileMillis(merged, 0.999),
+                merged.length == 0 ? 0 : merged[merged.length - 1] / 1_000_000.0
+        );
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    record Summary(
+            String operation,
+            int requests,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis
+    ) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.clement.loanapp.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load driver for {@code ApplicantController}. Each worker thread issues one request
+ * at a time, choosing the endpoint from a weighted mix, for a warm-up period and then a measured
+ * period. Hikari acquisition metrics are sampled from the actuator before and after the measured
+ * period.
+ *
+ * <p>Settings are system properties:
+ * <ul>
+ *     <li>{@code loadtest.base-url} - default {@code http://localhost:8080}</li>
+ *     <li>{@code loadtest.concurrency} - worker threads, default 32</li>
+ *     <li>{@code loadtest.warmup} / {@code loadtest.duration} - ISO-8601 durations, default PT10S / PT60S</li>
+ *     <li>{@code loadtest.mix} - weights, default {@code apply=20,applicants=60,approve=20}</li>
+ *     <li>{@code loadtest.page-size} - {@code size} for /applicants, default 100</li>
+ *     <li>{@code loadtest.report} - JSON report path, default {@code target/loadtest-report.json}</li>
+ * </ul>
+ */
+public final class LoadTest {
+    private static final String API = "/api/v1/loan";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final AtomicLong emailSequence = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int pageSize;
+    private final Operation[] schedule;
+    private final Path report;
+
+    enum Operation {
+        APPLY, APPLICANTS, APPROVE
+    }
+
+    private LoadTest() {
+        baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+        concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+        pageSize = Integer.getInteger("loadtest.page-size", 100);
+        schedule = parseMix(System.getProperty("loadtest.mix", "apply=20,applicants=60,approve=20"));
+        report = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("Load test against %s: %d workers, warm-up %s, measuring %s%n",
+                baseUrl, concurrency, warmup, duration);
+
+        drive(warmup, false);
+        Map<String, Double> hikariBefore = hikariMetrics();
+        long started = System.nanoTime();
+        List<Map<Operation, LatencyRecorder>> recorded = drive(duration, true);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        Map<String, Double> hikariAfter = hikariMetrics();
+
+        List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            List<LatencyRecorder> recorders = recorded.stream().map(byOperation -> byOperation.get(operation)).toList();
+            summaries.add(LatencyRecorder.summarize(operation.name(), recorders, seconds));
+        }
+        summaries.add(LatencyRecorder.summarize("ALL",
+                recorded.stream().flatMap(byOperation -> byOperation.values().stream()).toList(), seconds));
+
+        Map<String, Object> hikari = hikariDelta(hikariBefore, hikariAfter);
+        print(summaries, hikari);
+
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put("baseUrl", baseUrl);
+        output.put("concurrency", concurrency);
+        output.put("durationSeconds", seconds);
+        output.put("operations", summaries);
+        output.put("hikari", hikari);
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        jsonMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), output);
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    private List<Map<Operation, LatencyRecorder>> drive(Duration period, boolean record) throws InterruptedException {
+        long deadline = System.nanoTime() + period.toNanos();
+        List<Map<Operation, LatencyRecorder>> recorders = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int worker = 0; worker < concurrency; worker++) {
+            Map<Operation, LatencyRecorder> own = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                own.put(operation, new LatencyRecorder());
+            }
+            recorders.add(own);
+
+            Thread thread = new Thread(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = schedule[random.nextInt(schedule.length)];
+                        long start = System.nanoTime();
+                        boolean success = execute(operation, random);
+                        if (record) {
+                            own.get(operation).record(System.nanoTime() - start, success);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-" + worker);
+            thread.start();
+        }
+        done.await();
+        return recorders;
+    }
+
+    private boolean execute(Operation operation, ThreadLocalRandom random) {
+        HttpRequest request = switch (operation) {
+            case APPLY -> post(API + "/apply", applyBody());
+            case APPLICANTS -> HttpRequest.newBuilder(uri(API + "/applicants?page=" + random.nextInt(10)
+                    + "&size=" + pageSize)).GET().build();
+            // the API does not expose applicant ids, so this measures the indexed lookup and 404 path
+            case APPROVE -> post(API + "/approve/" + UUID.randomUUID(), "{\"status\":\"APPROVED\"}");
+        };
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            int status = response.statusCode();
+            return operation == Operation.APPROVE ? status == 200 || status == 404 : status < 400;
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String applyBody() {
+        return """
+                {"firstName":"Load","lastName":"Test","email":"load-%s-%d@example.com","loanAmount":10000.00,
+                 "tenor":12,"monthlyIncome":5000.00,"monthlyPayment":1000.00}
+                """.formatted(runId, emailSequence.incrementAndGet());
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private Map<String, Double> hikariMetrics() {
+        Map<String, Double> values = new LinkedHashMap<>();
+        readMetric("hikaricp.connections.acquire", values);
+        readMetric("hikaricp.connections.pending", values);
+        return values;
+    }
+
+    private void readMetric(String name, Map<String, Double> values) {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(uri("/actuator/metrics/" + name)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return;
+            }
+            JsonNode root = jsonMapper.readTree(response.body());
+            for (JsonNode measurement : root.path("measurements")) {
+                values.put(name + "." + measurement.path("statistic").asString(), measurement.path("value").asDouble());
+            }
+        } catch (IOException | RuntimeException ex) {
+            System.err.println("Could not read " + name + ": " + ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Object> hikariDelta(Map<String, Double> before, Map<String, Double> after) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+        if (after.isEmpty()) {
+            delta.put("available", false);
+            return delta;
+        }
+        double acquisitions = after.getOrDefault("hikaricp.connections.acquire.COUNT", 0d)
+                - before.getOrDefault("hikaricp.connections.acquire.COUNT", 0d);
+        double waitSeconds = after.getOrDefault("hikaricp.connections.acquire.TOTAL_TIME", 0d)
+                - before.getOrDefault("hikaricp.connections.acquire.TOTAL_TIME", 0d);
+        delta.put("available", true);
+        delta.put("acquisitions", acquisitions);
+        delta.put("totalWaitSeconds", waitSeconds);
+        delta.put("meanWaitMillis", acquisitions == 0 ? 0 : waitSeconds * 1000 / acquisitions);
+        delta.put("maxWaitMillis", after.getOrDefault("hikaricp.connections.acquire.MAX", 0d) * 1000);
+        delta.put("pendingAtEnd", after.getOrDefault("hikaricp.connections.pending.VALUE", 0d));
+        return delta;
+    }
+
+    private void print(List<LatencyRecorder.Summary> summaries, Map<String, Object> hikari) {
+        System.out.printf("%n%-12s %10s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (LatencyRecorder.Summary summary : summaries) {
+            System.out.printf(Locale.ROOT, "%-12s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    summary.operation(), summary.requests(), summary.errors(), summary.throughput(),
+                    summary.p50Millis(), summary.p99Millis(), summary.p999Millis(), summary.maxMillis());
+        }
+        System.out.println("\nHikari connection acquisition: " + hikari);
+    }
+
+    private static Operation[] parseMix(String mix) {
+        List<Operation> weighted = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            Operation operation = Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(parts[1].trim());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no weight: " + mix);
+        }
+        return weighted.toArray(Operation[]::new);
+    }
+}
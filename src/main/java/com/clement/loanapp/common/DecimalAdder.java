@@ -0,0 +1,49 @@
+package com.clement.loanapp.common;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link java.util.concurrent.atomic.LongAdder} for exact decimal sums. Each thread adds into one
+ * of a fixed number of cells chosen from its id, so concurrent writers rarely retry the same
+ * compare-and-set; {@link #sum} adds the cells up and is not an atomic snapshot.
+ */
+public final class DecimalAdder {
+    private final AtomicReferenceArray<BigDecimal> cells;
+    private final int mask;
+
+    public DecimalAdder(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be at least 1");
+        }
+        int size = Integer.highestOneBit(stripes - 1) << 1;
+        if (size < 1) {
+            size = 1;
+        }
+        this.cells = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            cells.set(i, BigDecimal.ZERO);
+        }
+    }
+
+    public void add(BigDecimal value) {
+        if (value == null || value.signum() == 0) {
+            return;
+        }
+        cells.accumulateAndGet(cell(), value, BigDecimal::add);
+    }
+
+    public BigDecimal sum() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < cells.length(); i++) {
+            sum = sum.add(cells.get(i));
+        }
+        return sum;
+    }
+
+    private int cell() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) * 0x9E3779B9 >>> 16 & mask;
+    }
+}
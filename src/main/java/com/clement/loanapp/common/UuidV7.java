@@ -0,0 +1,25 @@
+package com.clement.loanapp.common;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generates RFC 9562 version 7 UUIDs: a 48-bit millisecond timestamp followed by random bits.
+ * Values created close together sort close together, which keeps unique indexes on them compact.
+ */
+public final class UuidV7 {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private UuidV7() {
+    }
+
+    public static UUID randomUuid() {
+        long timestamp = System.currentTimeMillis();
+        long randomHigh = RANDOM.nextLong();
+        long randomLow = RANDOM.nextLong();
+
+        long mostSigBits = (timestamp << 16) | 0x7000L | (randomHigh & 0x0FFFL);
+        long leastSigBits = (randomLow & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
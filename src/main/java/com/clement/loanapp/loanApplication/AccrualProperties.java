@@ -0,0 +1,22 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Nightly accrual sizing. Each chunk covers {@code chunkSize} consecutive loan keys and is written
+ * with one statement; at most {@code parallelism} chunks run at once, each holding one pooled
+ * connection, so the rest of the Hikari pool stays available to requests. A chunk that fails is
+ * retried up to {@code retryAttempts} times after the other chunks of the run are done.
+ * {@code annualRateBasisPoints} is the rate accrued on outstanding balances (1500 = 15%); zero
+ * turns accrual off. It replaces scheduled interest rather than adding to it, so it may only be
+ * set while {@code loan.repayment.annual-rate-basis-points} is zero.
+ */
+@ConfigurationProperties(prefix = "loan.accrual")
+public record AccrualProperties(
+        @DefaultValue("5000") int chunkSize,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("2") int retryAttempts,
+        @DefaultValue("0") int annualRateBasisPoints
+) {
+}
@@ -0,0 +1,26 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Per-client token buckets and per-endpoint-class concurrency caps for the loan API. A client is
+ * its {@code X-API-Key} when that key is listed in {@code apiKeys}, otherwise its remote address
+ * as resolved from {@code x-forwarded-for}. Concurrency caps should stay below {@code server.tomcat.threads.max} so
+ * one class cannot occupy every worker, and approvals below the Hikari pool size.
+ */
+@ConfigurationProperties(prefix = "loan.admission")
+public record AdmissionProperties(
+        @DefaultValue("50") double requestsPerSecond,
+        @DefaultValue("100") int burst,
+        @DefaultValue("100000") long maxTrackedClients,
+        @DefaultValue("10m") Duration clientIdleTimeout,
+        @DefaultValue("120") int maxConcurrentReads,
+        @DefaultValue("60") int maxConcurrentWrites,
+        @DefaultValue("16") int maxConcurrentApprovals,
+        @DefaultValue Set<String> apiKeys
+) {
+}
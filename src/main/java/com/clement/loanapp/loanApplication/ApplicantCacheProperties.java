@@ -0,0 +1,17 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Bounds for the per-node applicant snapshot cache. {@code ttl} caps how long a snapshot can be
+ * served before it is reloaded, on top of the version check done on every read.
+ */
+@ConfigurationProperties(prefix = "loan.applicant-cache")
+public record ApplicantCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration ttl
+) {
+}
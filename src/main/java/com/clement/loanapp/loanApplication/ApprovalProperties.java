@@ -0,0 +1,16 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Approval pipeline sizing. {@code queueCapacity} counts batches, not events; each batch holds at
+ * most {@code batchSize} events and waits at most one outbox poll interval to fill.
+ */
+@ConfigurationProperties(prefix = "loan.approval")
+public record ApprovalProperties(
+        @DefaultValue("8") int concurrency,
+        @DefaultValue("200") int queueCapacity,
+        @DefaultValue("50") int batchSize
+) {
+}
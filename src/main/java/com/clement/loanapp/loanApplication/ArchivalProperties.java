@@ -0,0 +1,18 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Applicant archival. Rejected and fully repaid applicants created more than {@code retention}
+ * ago move to {@code applicant_archive}, {@code batchSize} rows per transaction. The schedule is
+ * read from {@code loan.archival.cron}.
+ */
+@ConfigurationProperties(prefix = "loan.archival")
+public record ArchivalProperties(
+        @DefaultValue("180d") Duration retention,
+        @DefaultValue("1000") int batchSize
+) {
+}
@@ -0,0 +1,11 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "loan.bulk")
+public record BulkApplyProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("50000") int maxItems
+) {
+}
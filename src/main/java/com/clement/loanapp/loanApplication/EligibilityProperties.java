@@ -0,0 +1,18 @@
+package com.clement.loanapp.loanApplication;
+
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityRuleDefinition;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Eligibility rule set. When {@code rulesFile} is set its JSON array of rule definitions takes
+ * precedence over {@code rules} and is re-read whenever the file changes.
+ */
+@ConfigurationProperties(prefix = "loan.eligibility")
+public record EligibilityProperties(
+        List<EligibilityRuleDefinition> rules,
+        Path rulesFile
+) {
+}
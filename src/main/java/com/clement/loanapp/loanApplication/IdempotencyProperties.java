@@ -0,0 +1,23 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key handling. {@code store} selects the backend: {@code memory} keeps keys per node
+ * in a bounded cache of at most {@code maximumSize} entries, {@code jdbc} shares them across nodes
+ * through the {@code idempotency_key} table. Either way a key is forgotten {@code ttl} after its
+ * first use. Request bodies are buffered for fingerprinting, so a keyed request larger than
+ * {@code maxBodySize} is refused with 413.
+ */
+@ConfigurationProperties(prefix = "loan.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("memory") String store,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("64KB") DataSize maxBodySize
+) {
+}
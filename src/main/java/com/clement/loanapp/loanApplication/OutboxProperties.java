@@ -0,0 +1,18 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Relay settings for {@code outbox_event}. The poll interval itself is read by the scheduler
+ * from {@code loan.outbox.poll-interval}.
+ */
+@ConfigurationProperties(prefix = "loan.outbox")
+public record OutboxProperties(
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("30s") Duration lease,
+        @DefaultValue("10") int maxAttempts
+) {
+}
@@ -0,0 +1,15 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Upper bound on {@code size} for the paged and cursor applicant endpoints. Reads larger than one
+ * page belong on {@code /applicants/scroll} or {@code /applicants/export}, which never hold more
+ * than a page of entities at a time.
+ */
+@ConfigurationProperties(prefix = "loan.paging")
+public record PagingProperties(
+        @DefaultValue("500") int maxPageSize
+) {
+}
@@ -0,0 +1,14 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Number of {@code portfolio_summary} rows per status that committed changes are spread over, so
+ * concurrent writers seldom wait on the same row lock. Reads cost one row per stripe and status.
+ */
+@ConfigurationProperties(prefix = "loan.portfolio")
+public record PortfolioProperties(
+        @DefaultValue("16") int stripes
+) {
+}
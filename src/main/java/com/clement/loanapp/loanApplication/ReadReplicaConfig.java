@@ -0,0 +1,120 @@
+package com.clement.loanapp.loanApplication;
+
+import com.clement.loanapp.loanApplication.datasource.ReplicaLagMonitor;
+import com.clement.loanapp.loanApplication.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.flyway.autoconfigure.FlywayDataSource;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * Replaces the single Hikari pool with a primary pool for writes and a replica pool for
+ * {@code @Transactional(readOnly = true)} work when {@code loan.datasource.replica.enabled} is
+ * set. JPA and {@code JdbcTemplate} see one routing {@code DataSource}; Flyway migrates the
+ * primary directly.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBooleanProperty("loan.datasource.replica.enabled")
+public class ReadReplicaConfig {
+
+    /**
+     * Connects like the auto-configured pool would: through the {@link JdbcConnectionDetails} bean
+     * when one exists, such as the one Docker Compose support registers, otherwise through
+     * {@code spring.datasource.*}. Boot only defines its own properties-backed details bean
+     * alongside its own pool, which this configuration replaces.
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable(() -> new PropertiesConnectionDetails(properties));
+        HikariDataSource dataSource = DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(details.getDriverClassName())
+                .url(details.getJdbcUrl())
+                .username(details.getUsername())
+                .password(details.getPassword())
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Same connection settings as the primary pool, sized separately and opened read-only. The
+     * pool starts even if the replica is down; reads stay on the primary until it comes up.
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                              ReplicaProperties replica) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica");
+        config.setJdbcUrl(hasText(replica.url()) ? replica.url() : primary.getJdbcUrl());
+        config.setUsername(hasText(replica.username()) ? replica.username() : primary.getUsername());
+        config.setPassword(hasText(replica.password()) ? replica.password() : primary.getPassword());
+        config.setMaximumPoolSize(replica.maximumPoolSize());
+        config.setMinimumIdle(replica.minimumIdle());
+        config.setMaxLifetime(primary.getMaxLifetime());
+        config.setAutoCommit(primary.isAutoCommit());
+        config.setTransactionIsolation(primary.getTransactionIsolation());
+        config.setDataSourceProperties(primary.getDataSourceProperties());
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaProperties replica,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), replica.maxLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+    }
+
+    private record PropertiesConnectionDetails(DataSourceProperties properties) implements JdbcConnectionDetails {
+
+        @Override
+        public String getUsername() {
+            return properties.determineUsername();
+        }
+
+        @Override
+        public String getPassword() {
+            return properties.determinePassword();
+        }
+
+        @Override
+        public String getJdbcUrl() {
+            return properties.determineUrl();
+        }
+
+        @Override
+        public String getDriverClassName() {
+            return properties.determineDriverClassName();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Annual interest rate applied to repayment schedules, in basis points (1500 = 15%). Zero keeps
+ * loans interest-free, so the installments add up to the credited amount. Interest is either
+ * scheduled here or accrued nightly through {@code loan.accrual.annual-rate-basis-points}, never
+ * both.
+ */
+@ConfigurationProperties(prefix = "loan.repayment")
+public record RepaymentProperties(
+        @DefaultValue("0") int annualRateBasisPoints
+) {
+}
@@ -0,0 +1,24 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read replica for {@code readOnly} transactions, off unless {@code enabled}. A blank {@code url},
+ * {@code username} or {@code password} falls back to {@code spring.datasource}, so one database can
+ * serve as both primary and replica through two separate pools. Reads go back to the primary
+ * while the replica is unreachable or more than {@code maxLag} behind.
+ */
+@ConfigurationProperties(prefix = "loan.datasource.replica")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("0") int minimumIdle,
+        @DefaultValue("5s") Duration maxLag
+) {
+}
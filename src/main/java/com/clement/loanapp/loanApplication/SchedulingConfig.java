@@ -0,0 +1,16 @@
+package com.clement.loanapp.loanApplication;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs every {@code @Scheduled} job, such as the outbox relay, the portfolio reconcile and the
+ * nightly accrual. Setting {@code loan.scheduling.enabled=false} turns them all off, for contexts
+ * started without the application schema such as the context-load test.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+@ConditionalOnBooleanProperty(name = "loan.scheduling.enabled", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,86 @@
+package com.clement.loanapp.loanApplication.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Polls the replica's replay lag and decides whether {@link ReplicaRoutingDataSource} may send
+ * reads to it. The replica counts as unavailable until the first successful check, after any
+ * failed check, while its WAL receiver is not streaming from the primary, and while it is more
+ * than {@code maxLag} behind the primary.
+ * <p>
+ * {@code pg_stat_wal_receiver} only shows its {@code status} to roles with
+ * {@code pg_read_all_stats}; grant it to the replica user, or the replica never counts as
+ * available.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // a server not in recovery is the primary itself. A disconnected receiver freezes both LSNs, so
+    // it answers NULL before they are compared; while streaming, an idle primary writes no WAL and a
+    // replica that replayed everything it received is current however old its last transaction is
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final JdbcTemplate replica;
+    private final double maxLagSeconds;
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(JdbcTemplate replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        Gauge.builder("loan.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replay lag of the read replica, NaN while it cannot be reached or is not streaming")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${loan.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        boolean current;
+        try {
+            Double lag = replica.queryForObject(LAG_QUERY, Double.class);
+            if (lag == null) {
+                lagSeconds = Double.NaN;
+                current = false;
+                if (available) {
+                    log.warn("Read replica is not streaming from the primary, routing reads to the primary");
+                }
+            } else {
+                lagSeconds = lag;
+                current = lagSeconds <= maxLagSeconds;
+            }
+        } catch (RuntimeException ex) {
+            lagSeconds = Double.NaN;
+            current = false;
+            if (available) {
+                log.warn("Read replica unreachable, routing reads to the primary", ex);
+            }
+        }
+        if (current != available) {
+            if (current) {
+                log.info("Read replica available with {}s lag, routing read-only transactions to it", lagSeconds);
+            } else if (!Double.isNaN(lagSeconds)) {
+                log.warn("Read replica {}s behind, over the {}s limit; routing reads to the primary",
+                        lagSeconds, maxLagSeconds);
+            }
+            available = current;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.clement.loanapp.loanApplication.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hands out replica connections inside {@code readOnly} transactions while
+ * {@link ReplicaLagMonitor} reports the replica current, and primary connections otherwise.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy} that defers the choice to the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isReplicaAvailable()
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,39 @@
+package com.clement.loanapp.loanApplication.domain.dto;
+
+import com.clement.loanapp.common.BadRequestException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position over {@code (created_at, pk)}. Encoded as url-safe base64 so clients
+ * treat it as a token rather than something they can construct.
+ */
+public record ApplicantCursor(Instant createdAt, long pk) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(pk);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static ApplicantCursor decode(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != ENCODED_BYTES) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new ApplicantCursor(createdAt, buffer.getLong());
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.clement.loanapp.loanApplication.domain.dto;
+
+import com.clement.loanapp.loanApplication.domain.model.Applicant;
+import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+
+import java.util.UUID;
+
+/**
+ * Immutable copy of the applicant fields needed to answer status lookups, tagged with the
+ * {@code version} it was read at so a cached copy can be checked against the row.
+ */
+public record ApplicantSnapshot(UUID id, String email, LoanStatus status, int version) {
+
+    public static ApplicantSnapshot of(Applicant applicant) {
+        return new ApplicantSnapshot(
+                applicant.getId(),
+                applicant.getEmail(),
+                applicant.getStatus(),
+                applicant.getVersion()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.clement.loanapp.loanApplication.domain.dto;
+
+import java.util.List;
+
+public record BulkApplyResponse(
+        int received,
+        int created,
+        List<BulkApplyResult> results
+) {
+}
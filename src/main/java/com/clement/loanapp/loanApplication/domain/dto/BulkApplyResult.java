@@ -0,0 +1,9 @@
+package com.clement.loanapp.loanApplication.domain.dto;
+
+public record BulkApplyResult(
+        int index,
+        String email,
+        BulkApplyStatus status,
+        String message
+) {
+}
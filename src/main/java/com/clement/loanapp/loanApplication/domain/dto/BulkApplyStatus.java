@@ -0,0 +1,8 @@
+package com.clement.loanapp.loanApplication.domain.dto;
+
+public enum BulkApplyStatus {
+    CREATED,
+    DUPLICATE,
+    REJECTED,
+    INVALID
+}
@@ -0,0 +1,10 @@
+package com.clement.loanapp.loanApplication.domain.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor
+) {
+}
@@ -0,0 +1,24 @@
+package com.clement.loanapp.loanApplication.domain.dto;
+
+import com.clement.loanapp.common.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported export format: " + value);
+    }
+}
@@ -0,0 +1,16 @@
+package com.clement.loanapp.loanApplication.domain.dto;
+
+import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+public record PortfolioStatsResponse(
+        Map<LoanStatus, Long> applicantsByStatus,
+        long totalApplicants,
+        BigDecimal outstandingBalance,
+        BigDecimal totalCredited,
+        Instant reconciledAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.clement.loanapp.loanApplication.domain.event;
+
+public record OutboxEvent(
+        long pk,
+        String eventType,
+        String payload,
+        int attempts
+) {
+}
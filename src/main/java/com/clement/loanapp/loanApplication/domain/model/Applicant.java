@@ -7,10 +7,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
@@ -38,10 +40,11 @@ import java.util.UUID;
 public class Applicant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applicant_seq")
+    @SequenceGenerator(name = "applicant_seq", sequenceName = "applicant_seq", allocationSize = 50)
     private long pk;
 
-    @Column(nullable = false)
+    @Column(nullable = false, unique = true)
     private UUID id;
 
     @Column(nullable = false)
@@ -63,7 +66,11 @@ public class Applicant {
 
     private BigDecimal balance;
 
-    @OneToOne(cascade = {CascadeType.REMOVE, CascadeType.PERSIST})
+    /**
+     * Lazy so applicant lookups and listings stay single-statement; no request path reads the loan,
+     * approval only replaces it.
+     */
+    @OneToOne(fetch = FetchType.LAZY, cascade = {CascadeType.REMOVE, CascadeType.PERSIST})
     private Loan loan;
 
     @Column(nullable = false, unique = true)
@@ -78,6 +85,7 @@ public class Applicant {
 
     @CreatedDate
     @JsonIgnore
+    @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
     @LastModifiedDate
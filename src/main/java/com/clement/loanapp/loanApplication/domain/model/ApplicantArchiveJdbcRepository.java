@@ -0,0 +1,91 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Moves cold applicants into {@code applicant_archive}, which is range-partitioned by month of
+ * {@code created_at}. An applicant is cold once it is {@code REJECTED}, or {@code APPROVED} with
+ * nothing left to repay; {@code idx_applicant_cold_created_at} covers exactly that predicate.
+ * Moving a row leaves its email claimed in {@code applicant_email}, so it cannot register again.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicantArchiveJdbcRepository {
+
+    private static final String COLD = "(status = 'REJECTED' OR (status = 'APPROVED' AND balance = 0))";
+
+    // listed on both sides so a column added to either table, or a different column order, cannot
+    // shift values into the wrong archive column; archived_at takes its default
+    private static final String COLUMNS = """
+            pk, id, first_name, last_name, monthly_income, request_loan_amount, monthly_payment, status,
+            credit_check, balance, loan_pk, email, approved_by, tenor, created_at, updated_at, version""";
+
+    private static final String ARCHIVE_BATCH = """
+            WITH moved AS (
+                DELETE FROM applicant
+                WHERE pk IN (
+                    SELECT pk FROM applicant
+                    WHERE created_at < ? AND %s
+                    ORDER BY created_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING %s
+            )
+            INSERT INTO applicant_archive (%s)
+            SELECT %s FROM moved
+            """.formatted(COLD, COLUMNS, COLUMNS, COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creation time of the oldest cold applicant created before {@code cutoff}, or {@code null}.
+     */
+    public LocalDateTime findOldestCold(LocalDateTime cutoff) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM applicant WHERE created_at < ? AND " + COLD,
+                LocalDateTime.class,
+                cutoff
+        );
+    }
+
+    /**
+     * Status of the archived applicant with {@code id}, for lookups that miss {@code applicant}.
+     */
+    public Optional<LoanStatus> findStatusById(UUID id) {
+        return jdbcTemplate.query(
+                "SELECT status FROM applicant_archive WHERE id = ?",
+                (resultSet, rowNum) -> LoanStatus.valueOf(resultSet.getString(1)),
+                id
+        ).stream().findFirst();
+    }
+
+    /**
+     * Creates the archive partition for {@code month} unless it already exists. Must run before
+     * rows of that month are archived: once the default partition holds such rows the partition
+     * can no longer be attached.
+     */
+    public void createPartition(YearMonth month) {
+        YearMonth next = month.plusMonths(1);
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS applicant_archive_%d_%02d PARTITION OF applicant_archive
+                FOR VALUES FROM ('%s') TO ('%s')
+                """.formatted(month.getYear(), month.getMonthValue(), month.atDay(1), next.atDay(1)));
+    }
+
+    /**
+     * Moves up to {@code limit} of the oldest cold applicants created before {@code cutoff} in one
+     * statement and returns how many moved. Rows locked by another transaction are skipped, so
+     * several instances can archive at once.
+     */
+    public int archiveBatch(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(ARCHIVE_BATCH, cutoff, limit);
+    }
+}
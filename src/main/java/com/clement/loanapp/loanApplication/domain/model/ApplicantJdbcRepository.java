@@ -0,0 +1,119 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applicant writes that bypass the persistence context: set-based inserts for bulk requests and
+ * the single-statement insert-if-absent behind {@code /apply}, where per-entity {@code save}
+ * round trips would dominate.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicantJdbcRepository {
+
+    // the email is claimed in applicant_email first: that table keeps the emails of archived
+    // applicants too, so a conflict there blocks re-registration even after the row has moved
+    private static final String INSERT_APPLICANT = """
+            WITH claimed AS (
+                INSERT INTO applicant_email (email) VALUES (?)
+                ON CONFLICT (email) DO NOTHING
+                RETURNING email
+            )
+            INSERT INTO applicant (id, first_name, last_name, email, monthly_income, request_loan_amount,
+                                   monthly_payment, tenor, status, credit_check, created_at, updated_at, version)
+            SELECT ?, ?, ?, email, ?, ?, ?, ?, ?, ?, ?, ?, 0 FROM claimed
+            """;
+
+    private static final String INSERT_APPLICANT_RETURNING = INSERT_APPLICANT + "RETURNING pk";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            Array array = connection.createArrayOf("varchar", emails.toArray());
+            try (PreparedStatement statement =
+                         connection.prepareStatement("SELECT email FROM applicant_email WHERE email = ANY(?)")) {
+                statement.setArray(1, array);
+                Set<String> existing = new HashSet<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        existing.add(resultSet.getString(1));
+                    }
+                }
+                return existing;
+            } finally {
+                array.free();
+            }
+        });
+    }
+
+    /**
+     * Inserts the applicants as a single JDBC batch. The returned counts line up with the input;
+     * a count of zero means another writer registered the same email first.
+     */
+    public int[] insertAll(List<Applicant> applicants) {
+        if (applicants.isEmpty()) {
+            return new int[0];
+        }
+        LocalDateTime now = utcNow();
+        return jdbcTemplate.batchUpdate(INSERT_APPLICANT, applicants, applicants.size(),
+                (ps, applicant) -> bind(ps, applicant, now))[0];
+    }
+
+    /**
+     * Inserts one applicant unless its email is already registered, in a single statement. On
+     * success the generated key is written back to {@code applicant}; {@code false} means the
+     * email belongs to an existing or concurrently committed applicant.
+     */
+    public boolean insertIfAbsent(Applicant applicant) {
+        LocalDateTime now = utcNow();
+        Long pk = jdbcTemplate.query(
+                INSERT_APPLICANT_RETURNING,
+                ps -> bind(ps, applicant, now),
+                resultSet -> resultSet.next() ? resultSet.getLong(1) : null
+        );
+        if (pk == null) {
+            return false;
+        }
+        applicant.setPk(pk);
+        return true;
+    }
+
+    private static void bind(PreparedStatement ps, Applicant applicant, LocalDateTime now) throws SQLException {
+        ps.setString(1, applicant.getEmail());
+        ps.setObject(2, applicant.getId());
+        ps.setString(3, applicant.getFirstName());
+        ps.setString(4, applicant.getLastName());
+        ps.setBigDecimal(5, applicant.getMonthlyIncome());
+        ps.setBigDecimal(6, applicant.getRequestLoanAmount());
+        ps.setBigDecimal(7, applicant.getMonthlyPayment());
+        ps.setInt(8, applicant.getTenor());
+        ps.setString(9, applicant.getStatus().name());
+        ps.setBoolean(10, Boolean.TRUE.equals(applicant.getCreditCheck()));
+        ps.setObject(11, now);
+        ps.setObject(12, now);
+    }
+
+    // columns are TIMESTAMP WITHOUT TIME ZONE holding UTC, matching hibernate.jdbc.time_zone
+    private static LocalDateTime utcNow() {
+        return LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+    }
+}
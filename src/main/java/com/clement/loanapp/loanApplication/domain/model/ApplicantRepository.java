@@ -1,12 +1,35 @@
 package com.clement.loanapp.loanApplication.domain.model;
 
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ApplicantRepository extends JpaRepository<Applicant, UUID> {
+public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
+
+    /**
+     * Selects exactly the {@link ApplicantResponse} columns, so listings allocate one DTO per row
+     * and never load entities, their loans or persistence-context snapshots.
+     */
+    String SELECT_RESPONSE = """
+            SELECT new com.clement.loanapp.loanApplication.domain.dto.ApplicantResponse(
+                concat(ap.firstName, ' ', ap.lastName), ap.monthlyIncome, ap.tenor, ap.email,
+                ap.requestLoanAmount, ap.status, ap.balance)
+            FROM Applicant ap
+            """;
 
     boolean existsByEmail(String email);
 
@@ -14,4 +37,33 @@ public interface ApplicantRepository extends JpaRepository<Applicant, UUID> {
 
     @Query("SELECT ap FROM Applicant  ap WHERE ap.id = :id")
     Optional<Applicant> findApplicantById(UUID id);
+
+    @Query("SELECT ap.version FROM Applicant ap WHERE ap.id = :id")
+    Optional<Integer> findVersionById(UUID id);
+
+    @Query("SELECT ap FROM Applicant ap WHERE ap.email IN :emails")
+    List<Applicant> findAllByEmailIn(Collection<String> emails);
+
+    @Query(value = SELECT_RESPONSE, countQuery = "SELECT count(ap) FROM Applicant ap")
+    Page<ApplicantResponse> findAllResponses(Pageable pageable);
+
+    @Query(SELECT_RESPONSE)
+    Slice<ApplicantResponse> findResponseSlice(Pageable pageable);
+
+    @Query("SELECT ap FROM Applicant ap ORDER BY ap.createdAt, ap.pk")
+    List<Applicant> findFirstByKeyset(Limit limit);
+
+    @Query("""
+            SELECT ap FROM Applicant ap
+            WHERE (ap.createdAt, ap.pk) > (:createdAt, :pk)
+            ORDER BY ap.createdAt, ap.pk
+            """)
+    List<Applicant> findNextByKeyset(Instant createdAt, long pk, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_RESPONSE + "ORDER BY ap.createdAt, ap.pk")
+    Stream<ApplicantResponse> streamAllForExport();
 }
@@ -0,0 +1,131 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Set-based reads and writes for the nightly accrual: applicants are read and updated one loan key
+ * range at a time, and {@code accrual_checkpoint} records which ranges a run date has finished.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoanAccrualJdbcRepository {
+
+    private static final String SELECT_OPEN_BALANCES = """
+            SELECT a.pk, a.version, ROUND(a.balance * 100)::bigint
+            FROM applicant a
+            WHERE a.loan_pk >= ? AND a.loan_pk < ? AND a.status = 'APPROVED' AND a.balance > 0
+            """;
+
+    private static final String UPDATE_BALANCES_PREFIX = """
+            UPDATE applicant a
+            SET balance = ROUND(v.balance / 100.0, 2), version = a.version + 1, updated_at = ?
+            FROM (VALUES\s""";
+
+    private static final String UPDATE_BALANCES_SUFFIX = """
+            ) AS v(pk, version, balance)
+            WHERE a.pk = v.pk AND a.version = v.version
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record LoanKeyRange(long min, long max) {
+    }
+
+    /**
+     * Smallest and largest loan key, or {@code null} when there are no loans.
+     */
+    public LoanKeyRange findLoanKeyRange() {
+        return jdbcTemplate.query("SELECT MIN(pk), MAX(pk) FROM loan", resultSet -> {
+            resultSet.next();
+            long min = resultSet.getLong(1);
+            return resultSet.wasNull() ? null : new LoanKeyRange(min, resultSet.getLong(2));
+        });
+    }
+
+    /**
+     * Chunks already checkpointed for {@code runDate}, as chunk start to exclusive chunk end.
+     */
+    public Map<Long, Long> findCheckpoints(LocalDate runDate) {
+        Map<Long, Long> checkpoints = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT chunk_start, chunk_end FROM accrual_checkpoint WHERE run_date = ?",
+                (RowCallbackHandler) resultSet -> checkpoints.put(resultSet.getLong(1), resultSet.getLong(2)),
+                runDate
+        );
+        return checkpoints;
+    }
+
+    /**
+     * Inserts the checkpoint of a chunk before it is processed. {@code false} means another worker
+     * already finished the chunk; a worker still processing it holds the row lock, so this waits
+     * for its transaction and then returns {@code false} or, if it rolled back, {@code true}.
+     */
+    public boolean claimChunk(LocalDate runDate, long chunkStart, long chunkEnd) {
+        return jdbcTemplate.update("""
+                INSERT INTO accrual_checkpoint (run_date, chunk_start, chunk_end)
+                VALUES (?, ?, ?)
+                ON CONFLICT (run_date, chunk_start) DO NOTHING
+                """, runDate, chunkStart, chunkEnd) == 1;
+    }
+
+    public void completeChunk(LocalDate runDate, long chunkStart, int loans, BigDecimal interest) {
+        jdbcTemplate.update("""
+                UPDATE accrual_checkpoint
+                SET loans = ?, interest = ?, completed_at = ?
+                WHERE run_date = ? AND chunk_start = ?
+                """, loans, interest, OffsetDateTime.now(ZoneOffset.UTC), runDate, chunkStart);
+    }
+
+    public OpenLoanBalances findOpenBalances(long chunkStart, long chunkEnd) {
+        OpenLoanBalances balances = new OpenLoanBalances((int) Math.min(chunkEnd - chunkStart, 10_000));
+        jdbcTemplate.query(
+                SELECT_OPEN_BALANCES,
+                (RowCallbackHandler) resultSet -> balances.add(resultSet.getLong(1), resultSet.getInt(2), resultSet.getLong(3)),
+                chunkStart, chunkEnd
+        );
+        return balances;
+    }
+
+    /**
+     * Writes every balance in one {@code UPDATE ... FROM (VALUES ...)} statement, bumping each
+     * row's version so concurrent JPA updates fail their optimistic lock check. Returns the number
+     * of rows updated; a row whose version moved since it was read is left untouched.
+     */
+    public int updateBalances(OpenLoanBalances balances) {
+        if (balances.size() == 0) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(UPDATE_BALANCES_PREFIX.length() + balances.size() * 12 + 64)
+                .append(UPDATE_BALANCES_PREFIX);
+        for (int i = 0; i < balances.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+        }
+        sql.append(UPDATE_BALANCES_SUFFIX);
+
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString());
+            statement.setObject(1, now);
+            int parameter = 2;
+            for (int i = 0; i < balances.size(); i++) {
+                statement.setLong(parameter++, balances.pk(i));
+                statement.setInt(parameter++, balances.version(i));
+                statement.setLong(parameter++, balances.balance(i));
+            }
+            return statement;
+        });
+    }
+}
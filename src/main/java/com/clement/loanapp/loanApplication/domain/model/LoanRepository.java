@@ -2,8 +2,6 @@ package com.clement.loanapp.loanApplication.domain.model;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.UUID;
-
-public interface LoanRepository extends JpaRepository<Loan, UUID> {
+public interface LoanRepository extends JpaRepository<Loan, Long> {
 
 }
@@ -0,0 +1,54 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Applicants with an outstanding balance in one accrual chunk, held column-wise: applicant key,
+ * row version and balance in minor units (cents).
+ */
+public final class OpenLoanBalances {
+    private long[] pks;
+    private int[] versions;
+    private long[] balances;
+    private int size;
+
+    public OpenLoanBalances(int expectedSize) {
+        int capacity = Math.max(1, expectedSize);
+        this.pks = new long[capacity];
+        this.versions = new int[capacity];
+        this.balances = new long[capacity];
+    }
+
+    public void add(long pk, int version, long balance) {
+        if (size == pks.length) {
+            int capacity = size * 2;
+            pks = Arrays.copyOf(pks, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            balances = Arrays.copyOf(balances, capacity);
+        }
+        pks[size] = pk;
+        versions[size] = version;
+        balances[size] = balance;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long pk(int i) {
+        return pks[i];
+    }
+
+    public int version(int i) {
+        return versions[i];
+    }
+
+    public long balance(int i) {
+        return balances[i];
+    }
+
+    public void setBalance(int i, long balance) {
+        balances[i] = balance;
+    }
+}
@@ -0,0 +1,93 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import com.clement.loanapp.loanApplication.domain.event.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO outbox_event (event_type, payload, available_at, created_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    // Claimed rows are pushed past the lease so a crashed node's work becomes visible again.
+    private static final String CLAIM_EVENTS = """
+            UPDATE outbox_event
+            SET available_at = ?, attempts = attempts + 1
+            WHERE pk IN (
+                SELECT pk FROM outbox_event
+                WHERE available_at <= ?
+                ORDER BY available_at, pk
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING pk, event_type, payload, attempts
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void appendAll(List<OutboxMessage> messages) {
+        LocalDateTime now = utcNow();
+        jdbcTemplate.batchUpdate(INSERT_EVENT, messages, messages.size(), (ps, message) -> {
+            ps.setString(1, message.eventType());
+            ps.setString(2, message.payload());
+            ps.setObject(3, now);
+            ps.setObject(4, now);
+        });
+    }
+
+    public List<OutboxEvent> claim(int batchSize, Duration lease) {
+        LocalDateTime now = utcNow();
+        return jdbcTemplate.query(CLAIM_EVENTS,
+                (rs, rowNum) -> new OutboxEvent(
+                        rs.getLong("pk"),
+                        rs.getString("event_type"),
+                        rs.getString("payload"),
+                        rs.getInt("attempts")
+                ),
+                now.plus(lease), now, batchSize);
+    }
+
+    public void deleteAll(Collection<Long> pks) {
+        if (pks.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM outbox_event WHERE pk = ANY(?)",
+                (Object) pks.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    public void recordFailure(long pk, String error, boolean parked) {
+        // parked rows stay in the table for inspection but are never claimed again
+        jdbcTemplate.update("""
+                        UPDATE outbox_event
+                        SET last_error = ?, available_at = CASE WHEN ? THEN 'infinity' ELSE available_at END
+                        WHERE pk = ?
+                        """,
+                truncate(error), parked, pk);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= 1000) {
+            return error;
+        }
+        return error.substring(0, 1000);
+    }
+
+    private LocalDateTime utcNow() {
+        return LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+    }
+
+    public record OutboxMessage(String eventType, String payload) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Applicant count, outstanding balance and credited amount for one status: a row total read from
+ * {@code portfolio_summary}, or a change to add to it.
+ */
+public record PortfolioSummary(LoanStatus status, long applicants, BigDecimal balance, BigDecimal credited) {
+
+    public static PortfolioSummary empty(LoanStatus status) {
+        return new PortfolioSummary(status, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    public PortfolioSummary plus(long applicants, BigDecimal balance, BigDecimal credited) {
+        return new PortfolioSummary(
+                status,
+                this.applicants + applicants,
+                this.balance.add(balance),
+                this.credited.add(credited)
+        );
+    }
+
+    public boolean isZero() {
+        return applicants == 0 && balance.signum() == 0 && credited.signum() == 0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * The {@code portfolio_summary} table: per-status totals split across a fixed number of stripes.
+ * Reading the totals touches at most statuses &times; stripes rows, whatever the applicant count.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PortfolioSummaryJdbcRepository {
+
+    private static final String ADD_TO_STRIPE = """
+            INSERT INTO portfolio_summary (status, stripe, applicants, balance, credited)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (status, stripe) DO UPDATE SET
+                applicants = portfolio_summary.applicants + EXCLUDED.applicants,
+                balance    = portfolio_summary.balance + EXCLUDED.balance,
+                credited   = portfolio_summary.credited + EXCLUDED.credited
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds {@code changes} to one stripe as a single batch. Callers pass changes in status order,
+     * so two transactions touching the same rows lock them in the same order.
+     */
+    public void addToStripe(List<PortfolioSummary> changes, int stripe) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_TO_STRIPE, changes, changes.size(), (ps, change) -> {
+            ps.setString(1, change.status().name());
+            ps.setShort(2, (short) stripe);
+            ps.setLong(3, change.applicants());
+            ps.setBigDecimal(4, change.balance());
+            ps.setBigDecimal(5, change.credited());
+        });
+    }
+
+    public List<PortfolioSummary> findTotals() {
+        return jdbcTemplate.query(
+                """
+                SELECT status, SUM(applicants), SUM(balance), SUM(credited)
+                FROM portfolio_summary
+                GROUP BY status
+                """,
+                (resultSet, rowNum) -> new PortfolioSummary(
+                        LoanStatus.valueOf(resultSet.getString(1)),
+                        resultSet.getLong(2),
+                        resultSet.getBigDecimal(3),
+                        resultSet.getBigDecimal(4)
+                )
+        );
+    }
+}
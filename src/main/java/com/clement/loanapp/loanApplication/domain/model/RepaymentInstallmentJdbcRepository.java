@@ -0,0 +1,55 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import com.clement.loanapp.loanApplication.service.repayment.RepaymentSchedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static com.clement.loanapp.loanApplication.service.repayment.RepaymentScheduleCalculator.fromMinorUnits;
+
+/**
+ * Writes {@code repayment_installment} rows straight from a {@link RepaymentSchedule}, one JDBC
+ * batch per schedule, without an entity per installment.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RepaymentInstallmentJdbcRepository {
+
+    private static final String INSERT_INSTALLMENT = """
+            INSERT INTO repayment_installment (loan_id, installment_number, due_date, principal, interest, balance_after)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts every installment of {@code schedule}; {@code loanIds[i]} is the loan scheduled at
+     * index {@code i}.
+     */
+    public void insertAll(RepaymentSchedule schedule, UUID[] loanIds) {
+        if (schedule.size() == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_INSTALLMENT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setObject(1, loanIds[schedule.loanIndex(i)]);
+                ps.setInt(2, schedule.installmentNumber(i));
+                ps.setObject(3, schedule.dueDate(i));
+                ps.setBigDecimal(4, fromMinorUnits(schedule.principal(i)));
+                ps.setBigDecimal(5, fromMinorUnits(schedule.interest(i)));
+                ps.setBigDecimal(6, fromMinorUnits(schedule.balanceAfter(i)));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return schedule.size();
+            }
+        });
+    }
+}
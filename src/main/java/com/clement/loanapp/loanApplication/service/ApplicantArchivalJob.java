@@ -0,0 +1,69 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.ArchivalProperties;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantArchiveJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * Keeps {@code applicant} down to the rows requests still touch by moving rejected and fully
+ * repaid applicants past their retention into {@code applicant_archive}. Each batch is one
+ * {@code DELETE ... RETURNING} into the archive in its own short transaction, so locks and WAL
+ * bursts stay small and a failed run simply resumes on the next one.
+ * <p>
+ * Archived applicants keep their email claimed in {@code applicant_email}, and status lookups by
+ * id fall back to the archive. Portfolio statistics are unaffected, as they are kept in
+ * {@code portfolio_summary}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicantArchivalJob {
+    private final ApplicantArchiveJdbcRepository applicantArchiveJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchivalProperties properties;
+
+    @Scheduled(cron = "${loan.archival.cron:0 0 2 * * *}", zone = "UTC")
+    public void nightly() {
+        archive(LocalDateTime.now(ZoneOffset.UTC).minus(properties.retention()));
+    }
+
+    /**
+     * Archives every cold applicant created before {@code cutoff} and returns how many moved.
+     */
+    public long archive(LocalDateTime cutoff) {
+        LocalDateTime oldest = applicantArchiveJdbcRepository.findOldestCold(cutoff);
+        if (oldest == null) {
+            return 0;
+        }
+        for (YearMonth month = YearMonth.from(oldest); !month.isAfter(YearMonth.from(cutoff)); month = month.plusMonths(1)) {
+            YearMonth partition = month;
+            try {
+                transactionTemplate.executeWithoutResult(status -> applicantArchiveJdbcRepository.createPartition(partition));
+            } catch (RuntimeException ex) {
+                // another instance created it first, or it is too late to split it off; either way
+                // the rows still land in the archive
+                log.warn("Could not create applicant archive partition for {}", partition, ex);
+            }
+        }
+
+        long total = 0;
+        int moved;
+        do {
+            Integer batch = transactionTemplate.execute(status ->
+                    applicantArchiveJdbcRepository.archiveBatch(cutoff, properties.batchSize()));
+            moved = batch == null ? 0 : batch;
+            total += moved;
+        } while (moved == properties.batchSize());
+
+        log.info("Archived {} applicants created before {}", total, cutoff);
+        return total;
+    }
+}
@@ -0,0 +1,84 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.ApplicantCacheProperties;
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantSnapshot;
+import com.clement.loanapp.loanApplication.domain.model.Applicant;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Bounded per-node cache of {@link ApplicantSnapshot}s keyed by applicant id and by email.
+ * Snapshots are never trusted on their own: callers either rely on {@code APPROVED} being terminal
+ * or compare {@link ApplicantSnapshot#version()} with the row, so a copy left stale by a write on
+ * another node is detected rather than served.
+ */
+@Component
+public class ApplicantCache {
+    private final Cache<UUID, ApplicantSnapshot> byId;
+    private final Cache<String, ApplicantSnapshot> byEmail;
+
+    public ApplicantCache(ApplicantCacheProperties properties, MeterRegistry meterRegistry) {
+        this.byId = CaffeineCacheMetrics.monitor(meterRegistry, newCache(properties), "applicants.by-id");
+        this.byEmail = CaffeineCacheMetrics.monitor(meterRegistry, newCache(properties), "applicants.by-email");
+    }
+
+    public ApplicantSnapshot getById(UUID id) {
+        return byId.getIfPresent(id);
+    }
+
+    public ApplicantSnapshot getByEmail(String email) {
+        return byEmail.getIfPresent(email);
+    }
+
+    public void put(ApplicantSnapshot snapshot) {
+        byId.put(snapshot.id(), snapshot);
+        byEmail.put(snapshot.email(), snapshot);
+    }
+
+    /**
+     * Drops the cached snapshots for {@code applicant}. Inside a transaction the entries are dropped
+     * again after commit, so a concurrent read cannot re-cache the pre-commit row.
+     */
+    public void evict(Applicant applicant) {
+        evictNow(applicant.getId(), applicant.getEmail());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            UUID id = applicant.getId();
+            String email = applicant.getEmail();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(id, email);
+                }
+            });
+        }
+    }
+
+    public void evictAll(Collection<Applicant> applicants) {
+        applicants.forEach(this::evict);
+    }
+
+    private void evictNow(UUID id, String email) {
+        if (id != null) {
+            byId.invalidate(id);
+        }
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+    }
+
+    private static <K> Cache<K, ApplicantSnapshot> newCache(ApplicantCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+    }
+}
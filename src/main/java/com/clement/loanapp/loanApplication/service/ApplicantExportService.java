@@ -0,0 +1,106 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantResponse;
+import com.clement.loanapp.loanApplication.domain.dto.ExportFormat;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicantExportService {
+    private static final String CSV_HEADER =
+            "name,monthlyIncome,tenor,email,requestLoan,loanStatus,amountCredited";
+
+    private final ApplicantRepository applicantRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams every applicant straight from a forward-only cursor into {@code out}. Rows are
+     * written as they are fetched, so heap use does not grow with the table.
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        long written;
+        try (Stream<ApplicantResponse> rows = applicantRepository.streamAllForExport()) {
+            written = switch (format) {
+                case NDJSON -> writeNdjson(rows, writer);
+                case CSV -> writeCsv(rows, writer);
+            };
+        }
+        writer.flush();
+
+        log.info("Exported {} applicants as {}", written, format);
+        return written;
+    }
+
+    private long writeNdjson(Stream<ApplicantResponse> rows, Writer writer) {
+        long count = 0;
+        try (SequenceWriter sequence = objectMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(writer)) {
+            for (ApplicantResponse row : (Iterable<ApplicantResponse>) rows::iterator) {
+                sequence.write(row);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Stream<ApplicantResponse> rows, Writer writer) throws IOException {
+        long count = 0;
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        for (ApplicantResponse row : (Iterable<ApplicantResponse>) rows::iterator) {
+            writeCsvField(writer, row.name());
+            writer.write(',');
+            writeCsvField(writer, row.monthlyIncome());
+            writer.write(',');
+            writer.write(Integer.toString(row.tenor()));
+            writer.write(',');
+            writeCsvField(writer, row.email());
+            writer.write(',');
+            writeCsvField(writer, row.requestLoan());
+            writer.write(',');
+            writeCsvField(writer, row.loanStatus());
+            writer.write(',');
+            writeCsvField(writer, row.amountCredited());
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private void writeCsvField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,102 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.ApprovalProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor for approval work, kept off the request and scheduler threads. At most
+ * {@code concurrency} tasks run at once and at most {@code queueCapacity} wait; callers ask for
+ * {@link #availableCapacity()} before taking more work instead of blocking or being rejected.
+ */
+@Component
+@Slf4j
+public class ApprovalPipeline {
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits;
+    private final Timer queueWait;
+    private final Timer processing;
+
+    public ApprovalPipeline(ApprovalProperties properties, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(properties.concurrency() + properties.queueCapacity());
+        this.executor = new ThreadPoolExecutor(
+                properties.concurrency(),
+                properties.concurrency(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                namedThreads()
+        );
+
+        Gauge.builder("loan.approval.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Approval tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("loan.approval.in.flight", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Approval tasks currently running")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("loan.approval.queue.wait")
+                .description("Time an approval task waited before a worker picked it up")
+                .register(meterRegistry);
+        this.processing = Timer.builder("loan.approval.processing")
+                .description("Time spent running an approval task")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public int availableCapacity() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Queues {@code task} if there is room. Returns {@code false} without queueing when the
+     * pipeline is full, leaving the caller to retry later.
+     */
+    public boolean submit(Runnable task) {
+        if (!permits.tryAcquire()) {
+            return false;
+        }
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                try {
+                    queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                    processing.record(task);
+                } finally {
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Approval pipeline did not drain in time, {} tasks abandoned", executor.shutdownNow().size());
+        }
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "loan-approval-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,166 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.common.BadRequestException;
+import com.clement.loanapp.common.UuidV7;
+import com.clement.loanapp.loanApplication.BulkApplyProperties;
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantLoanRequest;
+import com.clement.loanapp.loanApplication.domain.dto.BulkApplyResponse;
+import com.clement.loanapp.loanApplication.domain.dto.BulkApplyResult;
+import com.clement.loanapp.loanApplication.domain.dto.BulkApplyStatus;
+import com.clement.loanapp.loanApplication.domain.event.ApproveLoanEvent;
+import com.clement.loanapp.loanApplication.domain.model.Applicant;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantJdbcRepository;
+import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityEngine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.clement.loanapp.loanApplication.service.LoanApplicationService.DUPLICATE_APPLICANT_MESSAGE;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkApplicationService {
+    private final ApplicantJdbcRepository applicantJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final EligibilityEngine eligibilityEngine;
+    private final BulkApplyProperties properties;
+    private final PortfolioStatistics portfolioStatistics;
+
+    /**
+     * Registers many applications at once. Rows are screened in memory, checked for existing
+     * emails with one query per chunk and inserted as one JDBC batch per chunk, each chunk in its
+     * own transaction. Every input row gets exactly one entry in the report, in input order.
+     */
+    public BulkApplyResponse createLoansForApplications(List<ApplicantLoanRequest> requests) {
+
+        if (requests.size() > properties.maxItems()) {
+            throw new BadRequestException("A bulk request may contain at most " + properties.maxItems() + " items");
+        }
+
+        BulkApplyResult[] results = new BulkApplyResult[requests.size()];
+        Set<String> seenEmails = new HashSet<>();
+        Map<Integer, ApplicantLoanRequest> chunk = new LinkedHashMap<>();
+        int created = 0;
+
+        for (int index = 0; index < requests.size(); index++) {
+            ApplicantLoanRequest request = requests.get(index);
+            BulkApplyResult screened = screen(index, request, seenEmails);
+            if (screened != null) {
+                results[index] = screened;
+                continue;
+            }
+
+            chunk.put(index, request);
+            if (chunk.size() == properties.batchSize()) {
+                created += insertChunk(chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += insertChunk(chunk, results);
+        }
+
+        log.info("Bulk application processed {} rows, {} created", requests.size(), created);
+        return new BulkApplyResponse(requests.size(), created, Arrays.asList(results));
+    }
+
+    private BulkApplyResult screen(int index, ApplicantLoanRequest request, Set<String> seenEmails) {
+        if (request == null) {
+            return new BulkApplyResult(index, null, BulkApplyStatus.INVALID, "Empty item");
+        }
+
+        Set<ConstraintViolation<ApplicantLoanRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return new BulkApplyResult(index, request.email(), BulkApplyStatus.INVALID, message);
+        }
+
+        if (!seenEmails.add(request.email())) {
+            return new BulkApplyResult(index, request.email(), BulkApplyStatus.DUPLICATE,
+                    "Email appears more than once in this request");
+        }
+
+        String rejection = eligibilityEngine.rejectionReason(
+                request.monthlyIncome(), request.monthlyPayment(), request.loanAmount(), request.tenor());
+        if (rejection != null) {
+            return new BulkApplyResult(index, request.email(), BulkApplyStatus.REJECTED, rejection);
+        }
+        return null;
+    }
+
+    private int insertChunk(Map<Integer, ApplicantLoanRequest> chunk, BulkApplyResult[] results) {
+        Integer created = transactionTemplate.execute(status -> {
+            Set<String> existing = applicantJdbcRepository.findExistingEmails(
+                    chunk.values().stream().map(ApplicantLoanRequest::email).toList());
+
+            List<Integer> indexes = new ArrayList<>();
+            List<Applicant> applicants = new ArrayList<>();
+            chunk.forEach((index, request) -> {
+                if (existing.contains(request.email())) {
+                    results[index] = duplicate(index, request);
+                } else {
+                    indexes.add(index);
+                    applicants.add(toApplicant(request));
+                }
+            });
+
+            int[] counts = applicantJdbcRepository.insertAll(applicants);
+
+            int inserted = 0;
+            for (int i = 0; i < counts.length; i++) {
+                int index = indexes.get(i);
+                ApplicantLoanRequest request = chunk.get(index);
+                if (counts[i] == 0) {
+                    // lost a race with a concurrent writer on uc_applicant_email
+                    results[index] = duplicate(index, request);
+                    continue;
+                }
+                results[index] = new BulkApplyResult(index, request.email(), BulkApplyStatus.CREATED, null);
+                eventPublisher.publishEvent(new ApproveLoanEvent(request.email(), request.loanAmount()));
+                inserted++;
+            }
+            portfolioStatistics.applicantsCreated(inserted);
+            return inserted;
+        });
+        return created == null ? 0 : created;
+    }
+
+    private BulkApplyResult duplicate(int index, ApplicantLoanRequest request) {
+        return new BulkApplyResult(index, request.email(), BulkApplyStatus.DUPLICATE, DUPLICATE_APPLICANT_MESSAGE);
+    }
+
+    private Applicant toApplicant(ApplicantLoanRequest request) {
+        return Applicant.builder()
+                .id(UuidV7.randomUuid())
+                .firstName(request.firstName())
+                .lastName(request.lastName())
+                .email(request.email())
+                .monthlyIncome(request.monthlyIncome())
+                .requestLoanAmount(request.loanAmount())
+                .monthlyPayment(request.monthlyPayment())
+                .tenor(request.tenor())
+                .status(LoanStatus.DRAFT)
+                .creditCheck(false)
+                .build();
+    }
+}
@@ -0,0 +1,255 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.AccrualProperties;
+import com.clement.loanapp.loanApplication.RepaymentProperties;
+import com.clement.loanapp.loanApplication.domain.model.LoanAccrualJdbcRepository;
+import com.clement.loanapp.loanApplication.domain.model.LoanAccrualJdbcRepository.LoanKeyRange;
+import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+import com.clement.loanapp.loanApplication.domain.model.OpenLoanBalances;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+
+import static com.clement.loanapp.loanApplication.service.repayment.RepaymentScheduleCalculator.fromMinorUnits;
+
+/**
+ * Nightly interest accrual on the outstanding balance of every approved applicant. The loan key
+ * space is cut into fixed-width chunks that {@code parallelism} workers take in turn; a chunk is
+ * read with one range query, its new balances computed in minor units and written with one
+ * statement, all in one transaction with its {@code accrual_checkpoint} row.
+ * <p>
+ * The checkpoint makes runs restartable and safe to overlap: running a date again, on this or
+ * another instance, skips every chunk that already committed and retries only the rest. Within a
+ * run, chunks that fail are retried up to {@code retryAttempts} times once the first pass is over,
+ * each attempt reading the range afresh; chunks still failing after that are reported in
+ * {@link Result#failed} and are only finished by running the same date again.
+ * <p>
+ * The rate is {@code loan.accrual.annual-rate-basis-points}, off by default. Accrued interest is an
+ * alternative to the interest that repayment schedules build into each installment, so startup
+ * fails if both rates are set.
+ */
+@Component
+@Slf4j
+public class LoanAccrualJob {
+    private static final long DAYS_PER_YEAR = 365;
+
+    // 3 bind parameters per row must stay under PostgreSQL's 32767 limit
+    private static final int MAX_CHUNK_SIZE = 10_000;
+
+    private final LoanAccrualJdbcRepository loanAccrualJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PortfolioStatistics portfolioStatistics;
+    private final AccrualProperties properties;
+    private final long annualRateBasisPoints;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public LoanAccrualJob(LoanAccrualJdbcRepository loanAccrualJdbcRepository,
+                          TransactionTemplate transactionTemplate,
+                          PortfolioStatistics portfolioStatistics,
+                          AccrualProperties properties,
+                          RepaymentProperties repaymentProperties) {
+        if (properties.chunkSize() < 1 || properties.chunkSize() > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("loan.accrual.chunk-size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        if (properties.parallelism() < 1) {
+            throw new IllegalArgumentException("loan.accrual.parallelism must be at least 1");
+        }
+        if (properties.retryAttempts() < 0) {
+            throw new IllegalArgumentException("loan.accrual.retry-attempts must not be negative");
+        }
+        if (properties.annualRateBasisPoints() < 0 || properties.annualRateBasisPoints() > 100_000) {
+            throw new IllegalArgumentException("loan.accrual.annual-rate-basis-points must be between 0 and 100000");
+        }
+        if (properties.annualRateBasisPoints() != 0 && repaymentProperties.annualRateBasisPoints() != 0) {
+            throw new IllegalArgumentException("loan.accrual.annual-rate-basis-points and "
+                    + "loan.repayment.annual-rate-basis-points would charge interest twice; set only one of them");
+        }
+        this.loanAccrualJdbcRepository = loanAccrualJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.portfolioStatistics = portfolioStatistics;
+        this.properties = properties;
+        this.annualRateBasisPoints = properties.annualRateBasisPoints();
+    }
+
+    public record Result(LocalDate runDate, int chunks, int skipped, int failed, long loans,
+                         BigDecimal interest, Duration elapsed) {
+    }
+
+    @Scheduled(cron = "${loan.accrual.cron:0 30 0 * * *}", zone = "UTC")
+    public void nightly() {
+        run(LocalDate.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Accrues one day of interest for {@code runDate}. Returns {@code null} without doing anything
+     * if a run is already in progress on this instance.
+     */
+    public Result run(LocalDate runDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Accrual for {} not started, a run is already in progress", runDate);
+            return null;
+        }
+        try {
+            return accrue(runDate);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Result accrue(LocalDate runDate) {
+        long started = System.nanoTime();
+        if (annualRateBasisPoints == 0) {
+            log.debug("Accrual for {} skipped, loan.accrual.annual-rate-basis-points is 0", runDate);
+            return new Result(runDate, 0, 0, 0, 0, BigDecimal.ZERO, Duration.ZERO);
+        }
+        LoanKeyRange range = loanAccrualJdbcRepository.findLoanKeyRange();
+        if (range == null) {
+            return new Result(runDate, 0, 0, 0, 0, BigDecimal.ZERO, Duration.ZERO);
+        }
+
+        // a resumed run keeps the chunk boundaries it started with
+        Map<Long, Long> checkpoints = loanAccrualJdbcRepository.findCheckpoints(runDate);
+        Map.Entry<Long, Long> checkpoint = checkpoints.isEmpty() ? null : checkpoints.entrySet().iterator().next();
+        long width = checkpoint == null ? properties.chunkSize() : checkpoint.getValue() - checkpoint.getKey();
+        long firstChunk = checkpoint == null
+                ? range.min()
+                : range.min() - Math.floorMod(range.min() - checkpoint.getKey(), width);
+
+        AtomicLong nextChunk = new AtomicLong(firstChunk);
+        AtomicInteger chunks = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicLong loans = new AtomicLong();
+        AtomicLong interest = new AtomicLong();
+        Queue<Long> failedChunks = new ConcurrentLinkedQueue<>();
+
+        LongPredicate accrueChunk = chunkStart -> {
+            try {
+                long[] accrued = accrueChunk(runDate, chunkStart, chunkStart + width);
+                if (accrued == null) {
+                    skipped.incrementAndGet();
+                } else {
+                    loans.addAndGet(accrued[0]);
+                    interest.addAndGet(accrued[1]);
+                }
+                return true;
+            } catch (RuntimeException ex) {
+                log.warn("Accrual chunk [{}, {}) for {} failed", chunkStart, chunkStart + width, runDate, ex);
+                return false;
+            }
+        };
+
+        Runnable worker = () -> {
+            long chunkStart;
+            while ((chunkStart = nextChunk.getAndAdd(width)) <= range.max()) {
+                chunks.incrementAndGet();
+                if (checkpoints.containsKey(chunkStart)) {
+                    skipped.incrementAndGet();
+                } else if (!accrueChunk.test(chunkStart)) {
+                    failedChunks.add(chunkStart);
+                }
+            }
+        };
+
+        ExecutorService workers = Executors.newFixedThreadPool(properties.parallelism(), namedThreads());
+        try {
+            for (int i = 0; i < properties.parallelism(); i++) {
+                workers.execute(worker);
+            }
+            workers.shutdown();
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("Accrual for {} in progress: {} chunks done", runDate, chunks.get());
+            }
+        } catch (InterruptedException ex) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        // most failures are rows changed under the chunk, which a fresh read of the range gets past
+        for (int attempt = 1; attempt <= properties.retryAttempts() && !failedChunks.isEmpty()
+                && !Thread.currentThread().isInterrupted(); attempt++) {
+            List<Long> retrying = new ArrayList<>(failedChunks);
+            failedChunks.clear();
+            log.info("Retrying {} failed accrual chunks for {}, attempt {}", retrying.size(), runDate, attempt);
+            for (long chunkStart : retrying) {
+                if (!accrueChunk.test(chunkStart)) {
+                    failedChunks.add(chunkStart);
+                }
+            }
+        }
+        if (!failedChunks.isEmpty()) {
+            log.error("Accrual for {} left {} chunks unfinished, run the date again to finish them",
+                    runDate, failedChunks.size());
+        }
+
+        Result result = new Result(runDate, chunks.get(), skipped.get(), failedChunks.size(), loans.get(),
+                fromMinorUnits(interest.get()), Duration.ofNanos(System.nanoTime() - started));
+        log.info("Accrual for {} finished: {} chunks ({} skipped, {} failed), {} loans, {} interest in {} ms",
+                runDate, result.chunks(), result.skipped(), result.failed(), result.loans(), result.interest(),
+                result.elapsed().toMillis());
+        return result;
+    }
+
+    /**
+     * Accrues one chunk in its own transaction. Returns the number of loans and the interest
+     * accrued in minor units, or {@code null} if another worker already checkpointed the chunk.
+     */
+    private long[] accrueChunk(LocalDate runDate, long chunkStart, long chunkEnd) {
+        return transactionTemplate.execute(status -> {
+            if (!loanAccrualJdbcRepository.claimChunk(runDate, chunkStart, chunkEnd)) {
+                return null;
+            }
+            OpenLoanBalances balances = loanAccrualJdbcRepository.findOpenBalances(chunkStart, chunkEnd);
+
+            long interest = 0;
+            for (int i = 0; i < balances.size(); i++) {
+                long accrued = dailyInterest(balances.balance(i));
+                balances.setBalance(i, balances.balance(i) + accrued);
+                interest += accrued;
+            }
+
+            if (interest != 0) {
+                int updated = loanAccrualJdbcRepository.updateBalances(balances);
+                if (updated != balances.size()) {
+                    // rolls back the chunk and its checkpoint, leaving it to a retry
+                    throw new IllegalStateException((balances.size() - updated) + " applicants changed during accrual");
+                }
+                portfolioStatistics.balanceChanged(LoanStatus.APPROVED, fromMinorUnits(interest));
+            }
+            loanAccrualJdbcRepository.completeChunk(runDate, chunkStart, balances.size(), fromMinorUnits(interest));
+            return new long[]{balances.size(), interest};
+        });
+    }
+
+    long dailyInterest(long balance) {
+        long divisor = DAYS_PER_YEAR * 10_000;
+        return (balance * annualRateBasisPoints + divisor / 2) / divisor;
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "loan-accrual-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,54 +1,81 @@
 package com.clement.loanapp.loanApplication.service;
 
+import com.clement.loanapp.common.BadRequestException;
 import com.clement.loanapp.common.DuplicateException;
 import com.clement.loanapp.common.NotFoundException;
+import com.clement.loanapp.common.UuidV7;
+import com.clement.loanapp.loanApplication.PagingProperties;
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantCursor;
 import com.clement.loanapp.loanApplication.domain.dto.ApplicantLoanRequest;
 import com.clement.loanapp.loanApplication.domain.dto.ApplicantResponse;
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantSnapshot;
 import com.clement.loanapp.loanApplication.domain.dto.ApprovalRequest;
+import com.clement.loanapp.loanApplication.domain.dto.CursorPage;
 import com.clement.loanapp.loanApplication.domain.dto.GenericMessage;
 import com.clement.loanapp.loanApplication.domain.event.ApproveLoanEvent;
 import com.clement.loanapp.loanApplication.domain.model.Applicant;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantArchiveJdbcRepository;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantJdbcRepository;
 import com.clement.loanapp.loanApplication.domain.model.ApplicantRepository;
 import com.clement.loanapp.loanApplication.domain.model.Loan;
 import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityEngine;
+import com.clement.loanapp.loanApplication.service.repayment.RepaymentScheduleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.resilience.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
-import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LoanApplicationService implements LoanService {
+    static final String DUPLICATE_APPLICANT_MESSAGE = "You are an already registered applicant";
+
     private final ApplicantRepository applicantRepository;
+    private final ApplicantJdbcRepository applicantJdbcRepository;
+    private final ApplicantArchiveJdbcRepository applicantArchiveJdbcRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final EligibilityEngine eligibilityEngine;
+    private final LoanMetrics loanMetrics;
+    private final ApplicantCache applicantCache;
+    private final PagingProperties pagingProperties;
+    private final PortfolioStatistics portfolioStatistics;
+    private final RepaymentScheduleService repaymentScheduleService;
 
     @Override
+    @Transactional
     public GenericMessage createLoanForApplication(ApplicantLoanRequest request) {
 
-        if (applicantRepository.existsByEmail(request.email())) {
-            throw new DuplicateException("You are an already registered applicant");
-        }
-
-
-        if (checkCredit(request.monthlyIncome(), request.monthlyPayment())) {
-            throw new UnsupportedOperationException("To qualify for a loan, " +
-                    "your monthly income must be three(3) times more than your monthly installments");
+        String rejection = loanMetrics.timeEligibility(() -> eligibilityEngine.rejectionReason(
+                request.monthlyIncome(),
+                request.monthlyPayment(),
+                request.loanAmount(),
+                request.tenor()
+        ));
+        if (rejection != null) {
+            loanMetrics.applicationRejected();
+            throw new UnsupportedOperationException(rejection);
         }
 
         var applicant = Applicant.builder()
+                .id(UuidV7.randomUuid())
                 .firstName(request.firstName())
                 .lastName(request.lastName())
                 .email(request.email())
@@ -57,61 +84,141 @@ public class LoanApplicationService implements LoanService {
                 .tenor(request.tenor())
                 .loan(null)
                 .monthlyPayment(request.monthlyPayment())
+                .status(LoanStatus.DRAFT)
+                .creditCheck(false)
                 .build();
 
-        applicantRepository.save(applicant);
+        // one statement: uc_applicant_email decides, so concurrent duplicates cannot both succeed
+        if (!applicantJdbcRepository.insertIfAbsent(applicant)) {
+            loanMetrics.duplicateApplication();
+            throw new DuplicateException(DUPLICATE_APPLICANT_MESSAGE);
+        }
+        portfolioStatistics.applicantsCreated(1);
         eventPublisher.publishEvent(new ApproveLoanEvent(request.email(), request.loanAmount()));
+        loanMetrics.applicationCreated();
 
         return new GenericMessage("Application successfully");
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ApplicantResponse> getAllApplicants(int page, int size) {
+        return applicantRepository.findAllResponses(pageRequest(page, size));
+    }
 
-        PageRequest pageRequest = PageRequest.of(
-                page,
-                size,
-                Sort.by("createdAt").ascending()
-        );
+    /**
+     * Same rows as {@link #getAllApplicants} without the {@code count(*)} query: the slice only
+     * reports whether another page follows.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ApplicantResponse> getApplicantSlice(int page, int size) {
+        return applicantRepository.findResponseSlice(pageRequest(page, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicantResponse> getApplicantsByCursor(String cursor, int size) {
+
+        validatePageSize(size);
+
+        // one extra row tells us whether there is a next page without running count(*)
+        Limit limit = Limit.of(size + 1);
+
+        List<Applicant> applicants;
+        if (cursor == null || cursor.isBlank()) {
+            applicants = applicantRepository.findFirstByKeyset(limit);
+        } else {
+            ApplicantCursor position = ApplicantCursor.decode(cursor);
+            applicants = applicantRepository.findNextByKeyset(position.createdAt(), position.pk(), limit);
+        }
 
-        Page<Applicant> allApplicants = applicantRepository.findAll(pageRequest);
-
-        return allApplicants.map(applicant ->
-                new ApplicantResponse(
-                        applicant.getFirstName() + " " + applicant.getLastName(),
-                        applicant.getMonthlyIncome(),
-                        applicant.getTenor(),
-                        applicant.getEmail(),
-                        applicant.getRequestLoanAmount(),
-                        applicant.getStatus(),
-                        applicant.getBalance()
-                )
+        String nextCursor = null;
+        if (applicants.size() > size) {
+            applicants = applicants.subList(0, size);
+            Applicant last = applicants.get(size - 1);
+            nextCursor = new ApplicantCursor(last.getCreatedAt(), last.getPk()).encode();
+        }
+
+        return new CursorPage<>(
+                applicants.stream().map(this::toApplicantResponse).toList(),
+                applicants.size(),
+                nextCursor
         );
     }
 
     @Override
+    @Transactional
     public LoanStatus approveLoan(ApprovalRequest request, String applicantId) {
 
-        Applicant applicant = applicantRepository
-                .findApplicantById(UUID.fromString(applicantId))
-                .orElseThrow(() -> new NotFoundException("Applicant not found"));
+        UUID id = parseApplicantId(applicantId);
+
+        // APPROVED is terminal, so a cached APPROVED snapshot can never be stale
+        ApplicantSnapshot cached = applicantCache.getById(id);
+        if (cached != null && cached.status() == LoanStatus.APPROVED) {
+            return LoanStatus.APPROVED;
+        }
+
+        Applicant applicant = applicantRepository.findApplicantById(id).orElse(null);
+        if (applicant == null) {
+            return archivedStatus(id);
+        }
 
         if (applicant.getStatus() == LoanStatus.APPROVED) {
+            applicantCache.put(ApplicantSnapshot.of(applicant));
             return LoanStatus.APPROVED;
         }
 
-        processLoanApproval(applicant, applicant.getRequestLoanAmount());
+        if (processLoanApproval(applicant, applicant.getRequestLoanAmount())) {
+            repaymentScheduleService.createSchedules(List.of(applicant));
+        }
 
         applicantRepository.save(applicant);
+        applicantCache.evict(applicant);
         return applicant.getStatus();
     }
 
+    /**
+     * Serves repeated status polls from {@link ApplicantCache}. A cached snapshot is returned only
+     * when it is {@code APPROVED} or its version still matches the row, which costs a single-column
+     * lookup instead of loading the applicant and its loan.
+     */
+    @Override
+    public LoanStatus getApplicantStatus(String applicantId) {
+
+        UUID id = parseApplicantId(applicantId);
+
+        ApplicantSnapshot cached = applicantCache.getById(id);
+        if (cached != null && isCurrent(cached)) {
+            return cached.status();
+        }
+
+        Applicant applicant = applicantRepository.findApplicantById(id).orElse(null);
+        if (applicant == null) {
+            return archivedStatus(id);
+        }
+
+        applicantCache.put(ApplicantSnapshot.of(applicant));
+        return applicant.getStatus();
+    }
+
+    // archived applicants are rejected or fully repaid, so their status is final and there is
+    // nothing left to decide; only ids that were never registered are not found
+    private LoanStatus archivedStatus(UUID id) {
+        return applicantArchiveJdbcRepository.findStatusById(id)
+                .orElseThrow(() -> new NotFoundException("Applicant not found"));
+    }
+
 
     @Retryable
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void loanApproval(ApproveLoanEvent event) {
 
+        ApplicantSnapshot cached = applicantCache.getByEmail(event.applicantEmail());
+        if (cached != null && isDecided(cached.status())) {
+            return;
+        }
+
         Applicant applicant = applicantRepository
                 .findByEmail(event.applicantEmail())
                 .orElseThrow(() ->
@@ -120,18 +227,74 @@ public class LoanApplicationService implements LoanService {
                         )
                 );
 
-        if (applicant.getStatus() == LoanStatus.APPROVED) {
+        if (isDecided(applicant.getStatus())) {
             return;
         }
 
-        processLoanApproval(applicant, event.amountRequested());
+        if (processLoanApproval(applicant, event.amountRequested())) {
+            repaymentScheduleService.createSchedules(List.of(applicant));
+        }
 
         applicantRepository.save(applicant);
+        applicantCache.evict(applicant);
     }
 
-    private void processLoanApproval(Applicant applicant, BigDecimal amountRequested) {
+    /**
+     * Approves a batch of events in one transaction: one query loads every applicant, eligibility
+     * is evaluated in memory and the updates, new loans and their repayment installments are written
+     * as JDBC batches. A version
+     * conflict on any applicant rolls back the whole batch.
+     *
+     * @return emails from {@code events} that have no applicant
+     */
+    @Transactional
+    public Set<String> loanApprovals(List<ApproveLoanEvent> events) {
+
+        Map<String, ApproveLoanEvent> eventsByEmail = new LinkedHashMap<>();
+        for (ApproveLoanEvent event : events) {
+            eventsByEmail.putIfAbsent(event.applicantEmail(), event);
+        }
+
+        List<Applicant> applicants = applicantRepository.findAllByEmailIn(eventsByEmail.keySet());
+
+        List<Applicant> processed = new ArrayList<>(applicants.size());
+        List<Applicant> approved = new ArrayList<>(applicants.size());
+        for (Applicant applicant : applicants) {
+            ApproveLoanEvent event = eventsByEmail.remove(applicant.getEmail());
+            if (event == null || isDecided(applicant.getStatus())) {
+                continue;
+            }
+            if (processLoanApproval(applicant, event.amountRequested())) {
+                approved.add(applicant);
+            }
+            processed.add(applicant);
+        }
+
+        repaymentScheduleService.createSchedules(approved);
+        applicantRepository.saveAll(processed);
+        applicantCache.evictAll(processed);
+        return eventsByEmail.keySet();
+    }
+
+    // the outbox delivers at least once, so a redelivered event must not decide an applicant again:
+    // a changed policy could flip the outcome and the portfolio would count the move twice
+    private static boolean isDecided(LoanStatus status) {
+        return status != null && status != LoanStatus.DRAFT;
+    }
+
+    /**
+     * Decides the applicant and records the outcome on it.
+     *
+     * @return {@code true} if a loan was granted and still needs its repayment schedule
+     */
+    private boolean processLoanApproval(Applicant applicant, BigDecimal amountRequested) {
 
         boolean isEligible = evaluateEligibility(applicant);
+        loanMetrics.approvalDecided(isEligible);
+
+        LoanStatus previousStatus = applicant.getStatus();
+        BigDecimal previousBalance = applicant.getBalance();
+        BigDecimal credited = null;
 
         if (isEligible) {
             Loan loan = createLoan(amountRequested);
@@ -140,39 +303,78 @@ public class LoanApplicationService implements LoanService {
             applicant.setBalance(amountRequested);
             applicant.setLoan(loan);
             applicant.setCreditCheck(true);
+            credited = loan.getCredited();
 
         } else {
             applicant.setStatus(LoanStatus.REJECTED);
             applicant.setCreditCheck(false);
         }
+
+        portfolioStatistics.statusChanged(previousStatus, previousBalance,
+                applicant.getStatus(), applicant.getBalance(), credited);
+        return isEligible;
+    }
+
+
+    private boolean evaluateEligibility(Applicant applicant) {
+        return loanMetrics.timeEligibility(() -> eligibilityEngine.isEligible(
+                applicant.getMonthlyIncome(),
+                applicant.getMonthlyPayment(),
+                applicant.getRequestLoanAmount(),
+                applicant.getTenor()
+        ));
     }
 
+    private PageRequest pageRequest(int page, int size) {
+        if (page < 0) {
+            throw new BadRequestException("page must not be negative");
+        }
+        validatePageSize(size);
+        return PageRequest.of(page, size, Sort.by("createdAt").ascending());
+    }
 
-    private boolean checkCredit(BigDecimal monthlyIncome, BigDecimal monthlyPayment) {
-        if (monthlyIncome == null || monthlyPayment == null) {
-            return false;
+    private void validatePageSize(int size) {
+        int max = pagingProperties.maxPageSize();
+        if (size < 1 || size > max) {
+            throw new BadRequestException("size must be between 1 and " + max
+                    + "; use /applicants/scroll or /applicants/export for larger reads");
         }
+    }
 
-        BigDecimal threshold = monthlyPayment.multiply(BigDecimal.valueOf(3));
-        return monthlyIncome.compareTo(threshold) > 0;
+    private boolean isCurrent(ApplicantSnapshot snapshot) {
+        if (snapshot.status() == LoanStatus.APPROVED) {
+            return true;
+        }
+        return applicantRepository.findVersionById(snapshot.id())
+                .map(version -> version == snapshot.version())
+                .orElse(false);
     }
 
+    private UUID parseApplicantId(String applicantId) {
+        try {
+            return UUID.fromString(applicantId);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid applicant id: " + applicantId);
+        }
+    }
 
-    private boolean evaluateEligibility(Applicant applicant) {
-        return checkCredit(
+    private ApplicantResponse toApplicantResponse(Applicant applicant) {
+        return new ApplicantResponse(
+                applicant.getFirstName() + " " + applicant.getLastName(),
                 applicant.getMonthlyIncome(),
-                applicant.getMonthlyPayment()
+                applicant.getTenor(),
+                applicant.getEmail(),
+                applicant.getRequestLoanAmount(),
+                applicant.getStatus(),
+                applicant.getBalance()
         );
     }
 
+    // dueDate is set from the repayment schedule, which follows the applicant's tenor
     private Loan createLoan(BigDecimal amount) {
         return Loan.builder()
+                .id(UuidV7.randomUuid())
                 .credited(amount)
-                .dueDate(
-                        ZonedDateTime.now()
-                                .plusMonths(12)
-                                .toInstant()
-                )
                 .build();
     }
 
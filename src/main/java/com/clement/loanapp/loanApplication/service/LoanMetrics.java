@@ -0,0 +1,76 @@
+package com.clement.loanapp.loanApplication.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Business meters for the loan flow. Meters are registered once and held as fields so the hot
+ * path only increments a counter or records a timer sample; HTTP timings come from
+ * {@code http.server.requests} and repository timings from {@code spring.data.repository.invocations}.
+ */
+@Component
+public class LoanMetrics {
+    private final Counter applicationsCreated;
+    private final Counter applicationsDuplicate;
+    private final Counter applicationsRejected;
+    private final Counter approvalsApproved;
+    private final Counter approvalsRejected;
+    private final Timer eligibilityEvaluation;
+    private final Timer outboxAppend;
+
+    public LoanMetrics(MeterRegistry meterRegistry) {
+        this.applicationsCreated = applications(meterRegistry, "created");
+        this.applicationsDuplicate = applications(meterRegistry, "duplicate");
+        this.applicationsRejected = applications(meterRegistry, "rejected");
+        this.approvalsApproved = approvals(meterRegistry, "approved");
+        this.approvalsRejected = approvals(meterRegistry, "rejected");
+        this.eligibilityEvaluation = Timer.builder("loan.eligibility.evaluation")
+                .description("Time spent evaluating the eligibility policy")
+                .register(meterRegistry);
+        this.outboxAppend = Timer.builder("loan.outbox.append")
+                .description("Time spent writing buffered outbox rows before commit")
+                .register(meterRegistry);
+    }
+
+    public void applicationCreated() {
+        applicationsCreated.increment();
+    }
+
+    public void duplicateApplication() {
+        applicationsDuplicate.increment();
+    }
+
+    public void applicationRejected() {
+        applicationsRejected.increment();
+    }
+
+    public void approvalDecided(boolean approved) {
+        (approved ? approvalsApproved : approvalsRejected).increment();
+    }
+
+    public <T> T timeEligibility(Supplier<T> evaluation) {
+        return eligibilityEvaluation.record(evaluation);
+    }
+
+    public void timeOutboxAppend(Runnable append) {
+        outboxAppend.record(append);
+    }
+
+    private static Counter applications(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("loan.applications")
+                .description("Loan applications received, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter approvals(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("loan.approvals")
+                .description("Approval decisions, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
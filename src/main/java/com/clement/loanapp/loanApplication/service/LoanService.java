@@ -3,14 +3,22 @@ package com.clement.loanapp.loanApplication.service;
 import com.clement.loanapp.loanApplication.domain.dto.ApplicantLoanRequest;
 import com.clement.loanapp.loanApplication.domain.dto.ApplicantResponse;
 import com.clement.loanapp.loanApplication.domain.dto.ApprovalRequest;
+import com.clement.loanapp.loanApplication.domain.dto.CursorPage;
 import com.clement.loanapp.loanApplication.domain.dto.GenericMessage;
 import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface LoanService {
     GenericMessage createLoanForApplication(ApplicantLoanRequest request);
 
     Page<ApplicantResponse> getAllApplicants(int page, int size);
 
+    Slice<ApplicantResponse> getApplicantSlice(int page, int size);
+
+    CursorPage<ApplicantResponse> getApplicantsByCursor(String cursor, int size);
+
     LoanStatus approveLoan(ApprovalRequest request, String applicantId);
+
+    LoanStatus getApplicantStatus(String applicantId);
 }
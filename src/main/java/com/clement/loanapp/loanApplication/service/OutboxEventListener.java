@@ -0,0 +1,60 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.domain.event.ApproveLoanEvent;
+import com.clement.loanapp.loanApplication.domain.model.OutboxRepository;
+import com.clement.loanapp.loanApplication.domain.model.OutboxRepository.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns published {@link ApproveLoanEvent}s into {@code outbox_event} rows written by the
+ * publishing transaction itself, so an application and its approval request commit or roll back
+ * together. Rows are buffered per transaction and inserted as one batch just before commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventListener {
+    static final String APPROVE_LOAN_EVENT = "ApproveLoanEvent";
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final LoanMetrics loanMetrics;
+
+    @EventListener
+    public void onApproveLoan(ApproveLoanEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("ApproveLoanEvent must be published inside a transaction");
+        }
+        pendingMessages().add(new OutboxMessage(APPROVE_LOAN_EVENT, objectMapper.writeValueAsString(event)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxMessage> pendingMessages() {
+        List<OutboxMessage> pending = (List<OutboxMessage>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        List<OutboxMessage> buffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, buffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                loanMetrics.timeOutboxAppend(() -> outboxRepository.appendAll(buffer));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxEventListener.this);
+            }
+        });
+        return buffer;
+    }
+}
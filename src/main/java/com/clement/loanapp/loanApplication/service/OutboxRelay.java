@@ -0,0 +1,143 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.common.NotFoundException;
+import com.clement.loanapp.loanApplication.ApprovalProperties;
+import com.clement.loanapp.loanApplication.OutboxProperties;
+import com.clement.loanapp.loanApplication.domain.event.ApproveLoanEvent;
+import com.clement.loanapp.loanApplication.domain.event.OutboxEvent;
+import com.clement.loanapp.loanApplication.domain.model.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.clement.loanapp.loanApplication.service.OutboxEventListener.APPROVE_LOAN_EVENT;
+
+/**
+ * Drains {@code outbox_event} into the {@link ApprovalPipeline}. Each poll claims rows with
+ * {@code FOR UPDATE SKIP LOCKED} and a lease, so any number of nodes can relay concurrently
+ * without handing the same row to two of them. Claimed rows are cut into approval batches and only
+ * as many rows are claimed as the pipeline has room for. Rows are deleted only after their batch
+ * commits; a crash before that makes the row claimable again once the lease runs out, and
+ * approvals are idempotent.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+    private final OutboxRepository outboxRepository;
+    private final LoanApplicationService loanApplicationService;
+    private final ApprovalPipeline approvalPipeline;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final ApprovalProperties approvalProperties;
+
+    private final Queue<Long> completed = new ConcurrentLinkedQueue<>();
+
+    @Scheduled(fixedDelayString = "${loan.outbox.poll-interval:PT1S}")
+    public void relay() {
+        deleteCompleted();
+
+        int batchSize = approvalProperties.batchSize();
+        while (true) {
+            int requested = Math.min(properties.batchSize(), approvalPipeline.availableCapacity() * batchSize);
+            if (requested == 0) {
+                return;
+            }
+
+            List<OutboxEvent> claimed = transactionTemplate.execute(status ->
+                    outboxRepository.claim(requested, properties.lease()));
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+            for (int from = 0; from < claimed.size(); from += batchSize) {
+                List<OutboxEvent> batch = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+                if (!approvalPipeline.submit(() -> processBatch(batch))) {
+                    // the lease expires and another poll picks these up
+                    log.debug("Approval pipeline full, leaving {} outbox events for a later poll", batch.size());
+                }
+            }
+            if (claimed.size() < requested) {
+                return;
+            }
+        }
+    }
+
+    private void processBatch(List<OutboxEvent> batch) {
+        Map<OutboxEvent, ApproveLoanEvent> decoded = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            try {
+                decoded.put(event, decode(event));
+            } catch (RuntimeException ex) {
+                recordFailure(event, ex);
+            }
+        }
+        if (decoded.isEmpty()) {
+            return;
+        }
+
+        Set<String> missing;
+        try {
+            missing = loanApplicationService.loanApprovals(List.copyOf(decoded.values()));
+        } catch (RuntimeException ex) {
+            // typically a version conflict; retry one at a time so one row can't sink the rest
+            log.warn("Approval batch of {} failed, falling back to single approvals", decoded.size(), ex);
+            decoded.forEach(this::process);
+            return;
+        }
+
+        decoded.forEach((event, approval) -> {
+            if (missing.contains(approval.applicantEmail())) {
+                recordFailure(event, new NotFoundException(
+                        "Applicant not found for email: " + approval.applicantEmail()));
+            } else {
+                completed.add(event.pk());
+            }
+        });
+    }
+
+    private void process(OutboxEvent event, ApproveLoanEvent approval) {
+        try {
+            loanApplicationService.loanApproval(approval);
+            completed.add(event.pk());
+        } catch (RuntimeException ex) {
+            recordFailure(event, ex);
+        }
+    }
+
+    private void recordFailure(OutboxEvent event, RuntimeException ex) {
+        boolean parked = event.attempts() >= properties.maxAttempts();
+        log.error("Outbox event {} failed on attempt {}{}", event.pk(), event.attempts(),
+                parked ? ", parking it" : "", ex);
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.recordFailure(event.pk(), ex.toString(), parked));
+    }
+
+    private void deleteCompleted() {
+        List<Long> processed = new ArrayList<>();
+        for (Long pk = completed.poll(); pk != null; pk = completed.poll()) {
+            processed.add(pk);
+        }
+        if (!processed.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAll(processed));
+        }
+    }
+
+    private ApproveLoanEvent decode(OutboxEvent event) {
+        if (!APPROVE_LOAN_EVENT.equals(event.eventType())) {
+            throw new IllegalStateException("Unknown outbox event type: " + event.eventType());
+        }
+        return objectMapper.readValue(event.payload(), ApproveLoanEvent.class);
+    }
+}
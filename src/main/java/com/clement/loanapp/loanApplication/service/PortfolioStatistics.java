@@ -0,0 +1,254 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.common.DecimalAdder;
+import com.clement.loanapp.loanApplication.PortfolioProperties;
+import com.clement.loanapp.loanApplication.domain.dto.PortfolioStatsResponse;
+import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+import com.clement.loanapp.loanApplication.domain.model.PortfolioSummary;
+import com.clement.loanapp.loanApplication.domain.model.PortfolioSummaryJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applicant counts per status, outstanding balance and credited total, kept up to date as
+ * applicants change instead of being computed from {@code applicant}. Changes are collected per
+ * transaction, added to a random {@code portfolio_summary} stripe just before commit and, once
+ * committed, to striped in-memory adders; {@link #snapshot} costs the same at any table size.
+ * <p>
+ * {@link #reconcile} periodically resets the in-memory totals to the summary table, which brings
+ * in writes made by other instances. A change committing while the table is read may be counted
+ * twice, and one recorded just as the adders are swapped may be missed, until the next reconcile.
+ */
+@Component
+@Slf4j
+public class PortfolioStatistics {
+    private static final LoanStatus[] STATUSES = LoanStatus.values();
+
+    private final PortfolioSummaryJdbcRepository portfolioSummaryJdbcRepository;
+    private final PortfolioProperties properties;
+    private volatile State state;
+
+    public PortfolioStatistics(PortfolioSummaryJdbcRepository portfolioSummaryJdbcRepository,
+                               PortfolioProperties properties) {
+        this.portfolioSummaryJdbcRepository = portfolioSummaryJdbcRepository;
+        this.properties = properties;
+        this.state = new State(Totals.EMPTY, new Adders(properties.stripes()));
+    }
+
+    /**
+     * Counts {@code count} newly registered applicants, which always start as {@code DRAFT}.
+     */
+    public void applicantsCreated(int count) {
+        if (count > 0) {
+            Changes changes = new Changes();
+            changes.add(LoanStatus.DRAFT, count, BigDecimal.ZERO, BigDecimal.ZERO);
+            record(changes);
+        }
+    }
+
+    /**
+     * Moves one applicant from {@code from} to {@code to}. Balances may be {@code null};
+     * {@code credited} is the amount of a loan granted by this change, if any. A {@code null}
+     * {@code from}, left by rows written before {@code status} was always set, is counted as
+     * {@code DRAFT}, which is where the V7 backfill put those rows.
+     */
+    public void statusChanged(LoanStatus from, BigDecimal balanceBefore,
+                              LoanStatus to, BigDecimal balanceAfter, BigDecimal credited) {
+        Changes changes = new Changes();
+        changes.add(from == null ? LoanStatus.DRAFT : from, -1, orZero(balanceBefore).negate(), BigDecimal.ZERO);
+        changes.add(to, 1, orZero(balanceAfter), orZero(credited));
+        record(changes);
+    }
+
+    /**
+     * Adds {@code delta} to the outstanding balance of applicants in {@code status}, such as
+     * interest accrued on their loans.
+     */
+    public void balanceChanged(LoanStatus status, BigDecimal delta) {
+        Changes changes = new Changes();
+        changes.add(status, 0, delta, BigDecimal.ZERO);
+        record(changes);
+    }
+
+    public PortfolioStatsResponse snapshot() {
+        State current = state;
+        Map<LoanStatus, Long> applicantsByStatus = new EnumMap<>(LoanStatus.class);
+        long totalApplicants = 0;
+        for (LoanStatus status : STATUSES) {
+            long applicants = current.totals().applicants()[status.ordinal()] + current.live().applicants(status);
+            applicantsByStatus.put(status, applicants);
+            totalApplicants += applicants;
+        }
+        return new PortfolioStatsResponse(
+                applicantsByStatus,
+                totalApplicants,
+                current.totals().balance().add(current.live().balance.sum()),
+                current.totals().credited().add(current.live().credited.sum()),
+                current.totals().reconciledAt()
+        );
+    }
+
+    /**
+     * Folds the in-memory adders into the totals, then replaces the totals with a fresh read of
+     * {@code portfolio_summary}. On failure the folded in-memory totals are kept. The first run is
+     * right after startup, which loads the totals before the first interval has passed.
+     */
+    @Scheduled(fixedDelayString = "${loan.portfolio.reconcile-interval:PT30S}")
+    public void reconcile() {
+        State folded = new State(state.totals().plus(state.live()), new Adders(properties.stripes()));
+        state = folded;
+        try {
+            Totals read = Totals.of(portfolioSummaryJdbcRepository.findTotals(), Instant.now());
+            state = new State(read, folded.live());
+        } catch (RuntimeException ex) {
+            log.warn("Could not reconcile portfolio statistics, keeping the in-memory totals", ex);
+        }
+    }
+
+    private void record(Changes changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<PortfolioSummary> rows = changes.rows();
+            portfolioSummaryJdbcRepository.addToStripe(rows, stripe());
+            state.live().add(rows);
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.addAll(changes);
+    }
+
+    private int stripe() {
+        return ThreadLocalRandom.current().nextInt(properties.stripes());
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+    /**
+     * Changes made by one transaction, written as one batch right before it commits so the
+     * summary row locks are held as briefly as possible.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+        private final Changes changes = new Changes();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(PortfolioStatistics.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(PortfolioStatistics.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            portfolioSummaryJdbcRepository.addToStripe(changes.rows(), stripe());
+        }
+
+        @Override
+        public void afterCommit() {
+            state.live().add(changes.rows());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PortfolioStatistics.this);
+        }
+    }
+
+    private static final class Changes {
+        private final Map<LoanStatus, PortfolioSummary> byStatus = new EnumMap<>(LoanStatus.class);
+
+        void add(LoanStatus status, long applicants, BigDecimal balance, BigDecimal credited) {
+            byStatus.merge(status, PortfolioSummary.empty(status).plus(applicants, balance, credited),
+                    (existing, change) -> existing.plus(change.applicants(), change.balance(), change.credited()));
+        }
+
+        void addAll(Changes other) {
+            other.byStatus.values().forEach(change ->
+                    add(change.status(), change.applicants(), change.balance(), change.credited()));
+        }
+
+        // EnumMap iterates in status order, which keeps row lock order stable across writers
+        List<PortfolioSummary> rows() {
+            List<PortfolioSummary> rows = new ArrayList<>(byStatus.size());
+            for (PortfolioSummary change : byStatus.values()) {
+                if (!change.isZero()) {
+                    rows.add(change);
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static final class Adders {
+        private final LongAdder[] applicants = new LongAdder[STATUSES.length];
+        private final DecimalAdder balance;
+        private final DecimalAdder credited;
+
+        Adders(int stripes) {
+            for (int i = 0; i < applicants.length; i++) {
+                applicants[i] = new LongAdder();
+            }
+            this.balance = new DecimalAdder(stripes);
+            this.credited = new DecimalAdder(stripes);
+        }
+
+        void add(List<PortfolioSummary> rows) {
+            for (PortfolioSummary row : rows) {
+                applicants[row.status().ordinal()].add(row.applicants());
+                balance.add(row.balance());
+                credited.add(row.credited());
+            }
+        }
+
+        long applicants(LoanStatus status) {
+            return applicants[status.ordinal()].sum();
+        }
+    }
+
+    private record Totals(long[] applicants, BigDecimal balance, BigDecimal credited, Instant reconciledAt) {
+        static final Totals EMPTY = new Totals(new long[STATUSES.length], BigDecimal.ZERO, BigDecimal.ZERO, null);
+
+        static Totals of(List<PortfolioSummary> rows, Instant reconciledAt) {
+            long[] applicants = new long[STATUSES.length];
+            BigDecimal balance = BigDecimal.ZERO;
+            BigDecimal credited = BigDecimal.ZERO;
+            for (PortfolioSummary row : rows) {
+                applicants[row.status().ordinal()] += row.applicants();
+                balance = balance.add(row.balance());
+                credited = credited.add(row.credited());
+            }
+            return new Totals(applicants, balance, credited, reconciledAt);
+        }
+
+        Totals plus(Adders adders) {
+            long[] sums = applicants.clone();
+            for (LoanStatus status : STATUSES) {
+                sums[status.ordinal()] += adders.applicants(status);
+            }
+            return new Totals(sums, balance.add(adders.balance.sum()), credited.add(adders.credited.sum()), reconciledAt);
+        }
+    }
+
+    private record State(Totals totals, Adders live) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.clement.loanapp.loanApplication.service.eligibility;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Entry point for eligibility decisions. Holds the active {@link EligibilityPolicy}, which can be
+ * swapped atomically at runtime; evaluations in flight keep the policy they started with.
+ */
+@Component
+public class EligibilityEngine {
+    public static final String INSUFFICIENT_INCOME_MESSAGE = "To qualify for a loan, " +
+            "your monthly income must be three(3) times more than your monthly installments";
+
+    private final AtomicReference<EligibilityPolicy> policy = new AtomicReference<>(defaultPolicy());
+
+    public static EligibilityPolicy defaultPolicy() {
+        return EligibilityPolicy.compile(
+                List.of(new EligibilityRuleDefinition(
+                        StandardEligibilityRules.MIN_INCOME_MULTIPLE.type(),
+                        Map.of("multiple", "3"),
+                        INSUFFICIENT_INCOME_MESSAGE,
+                        null
+                )),
+                Map.of(StandardEligibilityRules.MIN_INCOME_MULTIPLE.type(), StandardEligibilityRules.MIN_INCOME_MULTIPLE)
+        );
+    }
+
+    public boolean isEligible(BigDecimal monthlyIncome, BigDecimal monthlyPayment, BigDecimal loanAmount, int tenor) {
+        return policy.get().isEligible(monthlyIncome, monthlyPayment, loanAmount, tenor);
+    }
+
+    /**
+     * Returns the message of the first rule the applicant fails, or {@code null} if eligible.
+     */
+    public String rejectionReason(BigDecimal monthlyIncome, BigDecimal monthlyPayment, BigDecimal loanAmount, int tenor) {
+        EligibilityRule failure = policy.get().firstFailure(monthlyIncome, monthlyPayment, loanAmount, tenor);
+        return failure == null ? null : failure.message();
+    }
+
+    public void replacePolicy(EligibilityPolicy newPolicy) {
+        policy.set(newPolicy);
+    }
+}
@@ -0,0 +1,122 @@
+package com.clement.loanapp.loanApplication.service.eligibility;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, compiled rule set. Compiling resolves every definition to an {@link EligibilityRule}
+ * once; evaluating walks the resulting tree on primitive minor-unit values only.
+ */
+public final class EligibilityPolicy {
+    public static final long UNKNOWN = Long.MIN_VALUE;
+    public static final long MAX_MINOR_UNITS = 10_000_000_000_000L;
+
+    private final EligibilityRule root;
+
+    private EligibilityPolicy(EligibilityRule root) {
+        this.root = root;
+    }
+
+    public static EligibilityPolicy compile(List<EligibilityRuleDefinition> definitions,
+                                            Map<String, EligibilityRuleFactory> factories) {
+        return new EligibilityPolicy(allOf(compileAll(definitions, factories), null));
+    }
+
+    /**
+     * Returns the first rule the applicant fails, or {@code null} when every rule passes.
+     */
+    public EligibilityRule firstFailure(BigDecimal monthlyIncome, BigDecimal monthlyPayment,
+                                        BigDecimal loanAmount, int tenor) {
+        return firstFailure(root, toMinorUnits(monthlyIncome), toMinorUnits(monthlyPayment),
+                toMinorUnits(loanAmount), tenor);
+    }
+
+    public boolean isEligible(BigDecimal monthlyIncome, BigDecimal monthlyPayment, BigDecimal loanAmount, int tenor) {
+        return root.test(toMinorUnits(monthlyIncome), toMinorUnits(monthlyPayment), toMinorUnits(loanAmount), tenor);
+    }
+
+    static long toMinorUnits(BigDecimal value) {
+        if (value == null || value.precision() - value.scale() > 13) {
+            return UNKNOWN;
+        }
+        long minorUnits = value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+        return Math.abs(minorUnits) > MAX_MINOR_UNITS ? UNKNOWN : minorUnits;
+    }
+
+    private static EligibilityRule firstFailure(EligibilityRule rule, long income, long payment, long amount, int tenor) {
+        if (rule instanceof AllOf allOf) {
+            for (EligibilityRule child : allOf.rules) {
+                EligibilityRule failure = firstFailure(child, income, payment, amount, tenor);
+                if (failure != null) {
+                    return failure;
+                }
+            }
+            return null;
+        }
+        return rule.test(income, payment, amount, tenor) ? null : rule;
+    }
+
+    private static EligibilityRule[] compileAll(List<EligibilityRuleDefinition> definitions,
+                                                Map<String, EligibilityRuleFactory> factories) {
+        EligibilityRule[] rules = new EligibilityRule[definitions.size()];
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = compile(definitions.get(i), factories);
+        }
+        return rules;
+    }
+
+    private static EligibilityRule compile(EligibilityRuleDefinition definition,
+                                           Map<String, EligibilityRuleFactory> factories) {
+        String type = definition.type();
+        if ("ALL_OF".equals(type)) {
+            return allOf(compileAll(definition.rules(), factories), definition.message());
+        }
+        if ("ANY_OF".equals(type)) {
+            return anyOf(compileAll(definition.rules(), factories), definition.message());
+        }
+
+        EligibilityRuleFactory factory = factories.get(type);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown eligibility rule type: " + type);
+        }
+        return factory.create(definition.params(), definition.message());
+    }
+
+    private static EligibilityRule allOf(EligibilityRule[] rules, String message) {
+        return new AllOf(rules, message != null ? message : "Applicant does not meet every eligibility rule");
+    }
+
+    private static EligibilityRule anyOf(EligibilityRule[] rules, String message) {
+        String text = message != null ? message : "Applicant does not meet any of the alternative eligibility rules";
+        return new EligibilityRule() {
+            @Override
+            public boolean test(long monthlyIncome, long monthlyPayment, long loanAmount, int tenor) {
+                for (EligibilityRule rule : rules) {
+                    if (rule.test(monthlyIncome, monthlyPayment, loanAmount, tenor)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public String message() {
+                return text;
+            }
+        };
+    }
+
+    private record AllOf(EligibilityRule[] rules, String message) implements EligibilityRule {
+        @Override
+        public boolean test(long monthlyIncome, long monthlyPayment, long loanAmount, int tenor) {
+            for (EligibilityRule rule : rules) {
+                if (!rule.test(monthlyIncome, monthlyPayment, loanAmount, tenor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
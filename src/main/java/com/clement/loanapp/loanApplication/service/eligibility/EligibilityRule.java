@@ -0,0 +1,13 @@
+package com.clement.loanapp.loanApplication.service.eligibility;
+
+/**
+ * A compiled eligibility check. Money arguments are in minor units (cents); a value of
+ * {@link EligibilityPolicy#UNKNOWN} means the input was missing or too large to represent safely,
+ * and a rule that needs it must fail. Implementations must be immutable and must not allocate.
+ */
+public interface EligibilityRule {
+
+    boolean test(long monthlyIncome, long monthlyPayment, long loanAmount, int tenor);
+
+    String message();
+}
@@ -0,0 +1,20 @@
+package com.clement.loanapp.loanApplication.service.eligibility;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration form of a rule. Leaf rules name a factory {@code type} and its {@code params};
+ * {@code ALL_OF} and {@code ANY_OF} combine the nested {@code rules}.
+ */
+public record EligibilityRuleDefinition(
+        String type,
+        Map<String, String> params,
+        String message,
+        List<EligibilityRuleDefinition> rules
+) {
+    public EligibilityRuleDefinition {
+        params = params == null ? Map.of() : Map.copyOf(params);
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+}
@@ -0,0 +1,14 @@
+package com.clement.loanapp.loanApplication.service.eligibility;
+
+import java.util.Map;
+
+/**
+ * Builds rules of one {@link #type()} from configuration. Register an implementation as a bean to
+ * make a new rule type available to rule sets without touching the engine.
+ */
+public interface EligibilityRuleFactory {
+
+    String type();
+
+    EligibilityRule create(Map<String, String> params, String message);
+}
@@ -0,0 +1,81 @@
+package com.clement.loanapp.loanApplication.service.eligibility;
+
+import com.clement.loanapp.loanApplication.EligibilityProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the configured rule set into the {@link EligibilityEngine} at startup and, when a
+ * rules file is configured, recompiles and swaps it in whenever the file changes. A rule set that
+ * fails to compile is logged and the running policy is kept.
+ */
+@Component
+@Slf4j
+public class EligibilityRulesLoader {
+    private static final TypeReference<List<EligibilityRuleDefinition>> DEFINITIONS = new TypeReference<>() {
+    };
+
+    private final EligibilityEngine eligibilityEngine;
+    private final EligibilityProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, EligibilityRuleFactory> factories = new HashMap<>();
+
+    private FileTime loadedVersion;
+
+    public EligibilityRulesLoader(EligibilityEngine eligibilityEngine,
+                                  EligibilityProperties properties,
+                                  ObjectMapper objectMapper,
+                                  List<EligibilityRuleFactory> customFactories) {
+        this.eligibilityEngine = eligibilityEngine;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        for (StandardEligibilityRules rule : StandardEligibilityRules.values()) {
+            factories.put(rule.type(), rule);
+        }
+        for (EligibilityRuleFactory factory : customFactories) {
+            factories.put(factory.type(), factory);
+        }
+    }
+
+    @PostConstruct
+    public void load() {
+        if (properties.rules() != null && !properties.rules().isEmpty()) {
+            eligibilityEngine.replacePolicy(EligibilityPolicy.compile(properties.rules(), factories));
+            log.info("Loaded {} eligibility rules from configuration", properties.rules().size());
+        }
+        reloadIfChanged();
+    }
+
+    @Scheduled(fixedDelayString = "${loan.eligibility.reload-interval:PT30S}")
+    public synchronized void reloadIfChanged() {
+        if (properties.rulesFile() == null) {
+            return;
+        }
+        try {
+            FileTime version = Files.getLastModifiedTime(properties.rulesFile());
+            if (version.equals(loadedVersion)) {
+                return;
+            }
+            // remember the version up front so a broken file is reported once, not on every poll
+            loadedVersion = version;
+            List<EligibilityRuleDefinition> definitions =
+                    objectMapper.readValue(properties.rulesFile().toFile(), DEFINITIONS);
+            eligibilityEngine.replacePolicy(EligibilityPolicy.compile(definitions, factories));
+            log.info("Loaded {} eligibility rules from {}", definitions.size(), properties.rulesFile());
+        } catch (IOException | RuntimeException ex) {
+            log.error("Could not load eligibility rules from {}, keeping the current policy",
+                    properties.rulesFile(), ex);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.clement.loanapp.loanApplication.service.eligibility;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static com.clement.loanapp.loanApplication.service.eligibility.EligibilityPolicy.MAX_MINOR_UNITS;
+import static com.clement.loanapp.loanApplication.service.eligibility.EligibilityPolicy.UNKNOWN;
+
+/**
+ * Rule types available out of the box. Ratios are stored as scaled longs; together with the
+ * {@link EligibilityPolicy#MAX_MINOR_UNITS} input bound every product below fits in a long.
+ */
+public enum StandardEligibilityRules implements EligibilityRuleFactory {
+
+    /** {@code monthlyIncome > multiple * monthlyPayment}. Param: {@code multiple}. */
+    MIN_INCOME_MULTIPLE {
+        @Override
+        public EligibilityRule create(Map<String, String> params, String message) {
+            long multiple = scaled(params, "multiple", 2, MAX_FACTOR);
+            String text = message != null ? message
+                    : "Monthly income must be more than " + params.get("multiple") + " times the monthly payment";
+            return new Rule(text) {
+                @Override
+                public boolean test(long monthlyIncome, long monthlyPayment, long loanAmount, int tenor) {
+                    return monthlyIncome != UNKNOWN && monthlyPayment != UNKNOWN
+                            && monthlyIncome * 100 > monthlyPayment * multiple;
+                }
+            };
+        }
+    },
+
+    /** {@code monthlyPayment / monthlyIncome <= max-ratio}. Param: {@code max-ratio}. */
+    MAX_DEBT_TO_INCOME {
+        @Override
+        public EligibilityRule create(Map<String, String> params, String message) {
+            long maxRatioBps = scaled(params, "max-ratio", 4, MAX_FACTOR);
+            String text = message != null ? message
+                    : "Monthly payment must not exceed " + params.get("max-ratio") + " of monthly income";
+            return new Rule(text) {
+                @Override
+                public boolean test(long monthlyIncome, long monthlyPayment, long loanAmount, int tenor) {
+                    return monthlyIncome != UNKNOWN && monthlyPayment != UNKNOWN
+                            && monthlyPayment * 10_000 <= monthlyIncome * maxRatioBps;
+                }
+            };
+        }
+    },
+
+    /** {@code min <= tenor <= max}. Params: {@code min}, {@code max} in months. */
+    TENOR_RANGE {
+        @Override
+        public EligibilityRule create(Map<String, String> params, String message) {
+            int min = Integer.parseInt(params.getOrDefault("min", "1"));
+            int max = Integer.parseInt(params.getOrDefault("max", String.valueOf(Integer.MAX_VALUE)));
+            String text = message != null ? message
+                    : "Tenor must be between " + min + " and " + max + " months";
+            return new Rule(text) {
+                @Override
+                public boolean test(long monthlyIncome, long monthlyPayment, long loanAmount, int tenor) {
+                    return tenor >= min && tenor <= max;
+                }
+            };
+        }
+    },
+
+    /** {@code min <= loanAmount <= max}. Params: {@code min}, {@code max}. */
+    AMOUNT_RANGE {
+        @Override
+        public EligibilityRule create(Map<String, String> params, String message) {
+            long min = params.containsKey("min") ? scaled(params, "min", 2, MAX_MINOR_UNITS) : 0;
+            long max = params.containsKey("max") ? scaled(params, "max", 2, MAX_MINOR_UNITS) : MAX_MINOR_UNITS;
+            String text = message != null ? message
+                    : "Loan amount must be between " + params.getOrDefault("min", "0")
+                    + " and " + params.getOrDefault("max", "any amount");
+            return new Rule(text) {
+                @Override
+                public boolean test(long monthlyIncome, long monthlyPayment, long loanAmount, int tenor) {
+                    return loanAmount != UNKNOWN && loanAmount >= min && loanAmount <= max;
+                }
+            };
+        }
+    };
+
+    // with inputs capped at MAX_MINOR_UNITS (1e13) a factor of 1e5 keeps every product under 1e18
+    private static final long MAX_FACTOR = 100_000;
+
+    @Override
+    public String type() {
+        return name();
+    }
+
+    private static long scaled(Map<String, String> params, String name, int scale, long max) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing rule parameter: " + name);
+        }
+        long scaled = new BigDecimal(value).movePointRight(scale).longValueExact();
+        if (scaled < 0 || scaled > max) {
+            throw new IllegalArgumentException("Rule parameter out of range: " + name + "=" + value);
+        }
+        return scaled;
+    }
+
+    private abstract static class Rule implements EligibilityRule {
+        private final String message;
+
+        Rule(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public String message() {
+            return message;
+        }
+    }
+}
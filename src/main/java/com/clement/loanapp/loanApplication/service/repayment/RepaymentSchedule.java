@@ -0,0 +1,76 @@
+package com.clement.loanapp.loanApplication.service.repayment;
+
+import java.time.LocalDate;
+
+/**
+ * Installments of one or more loans, stored column-wise in primitive arrays so a portfolio-sized
+ * schedule costs a handful of allocations instead of one object per installment. Amounts are in
+ * minor units (cents); loans are identified by their index in the calculator input and their
+ * installments are contiguous and in order.
+ */
+public final class RepaymentSchedule {
+    private final int[] loanIndex;
+    private final int[] installmentNumber;
+    private final int[] dueEpochDay;
+    private final long[] principal;
+    private final long[] interest;
+    private final long[] balanceAfter;
+    private final int[] lastInstallment;
+    private int size;
+
+    RepaymentSchedule(int loans, int installments) {
+        this.loanIndex = new int[installments];
+        this.installmentNumber = new int[installments];
+        this.dueEpochDay = new int[installments];
+        this.principal = new long[installments];
+        this.interest = new long[installments];
+        this.balanceAfter = new long[installments];
+        this.lastInstallment = new int[loans];
+    }
+
+    void add(int loan, int number, int dueDay, long principalPart, long interestPart, long balance) {
+        int i = size++;
+        loanIndex[i] = loan;
+        installmentNumber[i] = number;
+        dueEpochDay[i] = dueDay;
+        principal[i] = principalPart;
+        interest[i] = interestPart;
+        balanceAfter[i] = balance;
+        lastInstallment[loan] = i;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int loanIndex(int i) {
+        return loanIndex[i];
+    }
+
+    public int installmentNumber(int i) {
+        return installmentNumber[i];
+    }
+
+    public LocalDate dueDate(int i) {
+        return LocalDate.ofEpochDay(dueEpochDay[i]);
+    }
+
+    public long principal(int i) {
+        return principal[i];
+    }
+
+    public long interest(int i) {
+        return interest[i];
+    }
+
+    public long balanceAfter(int i) {
+        return balanceAfter[i];
+    }
+
+    /**
+     * Due date of the last installment of {@code loan}, which is when the loan is fully repaid.
+     */
+    public LocalDate finalDueDate(int loan) {
+        return dueDate(lastInstallment[loan]);
+    }
+}
@@ -0,0 +1,103 @@
+package com.clement.loanapp.loanApplication.service.repayment;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Level-payment (annuity) schedules with monthly installments. All arithmetic inside the
+ * installment loop is on {@code long} minor units: interest is the outstanding balance times the
+ * monthly rate rounded half-up to the cent, and the last installment repays whatever principal
+ * rounding left over, so the principal parts always add up to the amount lent.
+ * <p>
+ * The level payment itself is computed once per loan in {@code double}, which is exact to the cent
+ * for any principal below roughly 10<sup>13</sup> currency units.
+ */
+public final class RepaymentScheduleCalculator {
+    static final int MINOR_UNIT_SCALE = 2;
+
+    // basis points per year -> fraction per month
+    private static final long RATE_DIVISOR = 12 * 10_000L;
+
+    private final int annualRateBasisPoints;
+    private final long maxPrincipal;
+
+    public RepaymentScheduleCalculator(int annualRateBasisPoints) {
+        if (annualRateBasisPoints < 0 || annualRateBasisPoints > 100_000) {
+            throw new IllegalArgumentException("annualRateBasisPoints must be between 0 and 100000");
+        }
+        this.annualRateBasisPoints = annualRateBasisPoints;
+        // keeps balance * rate + RATE_DIVISOR inside a long
+        this.maxPrincipal = (Long.MAX_VALUE - RATE_DIVISOR) / Math.max(1, annualRateBasisPoints);
+    }
+
+    public RepaymentSchedule schedule(long principal, int tenor, LocalDate firstDueDate) {
+        return scheduleAll(new long[]{principal}, new int[]{tenor}, firstDueDate);
+    }
+
+    /**
+     * Schedules every loan in one pass. {@code principals[i]} (minor units) is repaid over
+     * {@code tenors[i]} monthly installments, the first due on {@code firstDueDate}.
+     */
+    public RepaymentSchedule scheduleAll(long[] principals, int[] tenors, LocalDate firstDueDate) {
+        if (principals.length != tenors.length) {
+            throw new IllegalArgumentException("principals and tenors must have the same length");
+        }
+        int installments = 0;
+        int maxTenor = 0;
+        for (int tenor : tenors) {
+            if (tenor < 1) {
+                throw new IllegalArgumentException("tenor must be at least 1");
+            }
+            installments = Math.addExact(installments, tenor);
+            maxTenor = Math.max(maxTenor, tenor);
+        }
+
+        // every loan in the call shares the same calendar, so month arithmetic runs once per month
+        int[] dueEpochDays = new int[maxTenor];
+        for (int month = 0; month < maxTenor; month++) {
+            dueEpochDays[month] = Math.toIntExact(firstDueDate.plusMonths(month).toEpochDay());
+        }
+
+        RepaymentSchedule schedule = new RepaymentSchedule(principals.length, installments);
+        for (int loan = 0; loan < principals.length; loan++) {
+            fill(schedule, loan, principals[loan], tenors[loan], dueEpochDays);
+        }
+        return schedule;
+    }
+
+    /**
+     * Fixed monthly payment, in minor units, that repays {@code principal} over {@code tenor} months.
+     */
+    public long levelPayment(long principal, int tenor) {
+        if (annualRateBasisPoints == 0) {
+            return principal / tenor;
+        }
+        double monthlyRate = (double) annualRateBasisPoints / RATE_DIVISOR;
+        return Math.round(principal * monthlyRate / (1 - StrictMath.pow(1 + monthlyRate, -tenor)));
+    }
+
+    private void fill(RepaymentSchedule schedule, int loan, long principal, int tenor, int[] dueEpochDays) {
+        if (principal < 0 || principal > maxPrincipal) {
+            throw new IllegalArgumentException("principal out of range: " + principal);
+        }
+        long payment = levelPayment(principal, tenor);
+        long balance = principal;
+        for (int month = 0; month < tenor; month++) {
+            long interest = (balance * annualRateBasisPoints + RATE_DIVISOR / 2) / RATE_DIVISOR;
+            long principalPart = month == tenor - 1
+                    ? balance
+                    : Math.min(balance, Math.max(0, payment - interest));
+            balance -= principalPart;
+            schedule.add(loan, month + 1, dueEpochDays[month], principalPart, interest, balance);
+        }
+    }
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(MINOR_UNIT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromMinorUnits(long amount) {
+        return BigDecimal.valueOf(amount, MINOR_UNIT_SCALE);
+    }
+}
@@ -0,0 +1,57 @@
+package com.clement.loanapp.loanApplication.service.repayment;
+
+import com.clement.loanapp.loanApplication.RepaymentProperties;
+import com.clement.loanapp.loanApplication.domain.model.Applicant;
+import com.clement.loanapp.loanApplication.domain.model.Loan;
+import com.clement.loanapp.loanApplication.domain.model.RepaymentInstallmentJdbcRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Creates the repayment schedules of newly granted loans: the applicant's tenor sets the number of
+ * monthly installments, the first falling due one month after approval.
+ */
+@Service
+public class RepaymentScheduleService {
+    private final RepaymentInstallmentJdbcRepository repaymentInstallmentJdbcRepository;
+    private final RepaymentScheduleCalculator calculator;
+
+    public RepaymentScheduleService(RepaymentInstallmentJdbcRepository repaymentInstallmentJdbcRepository,
+                                    RepaymentProperties properties) {
+        this.repaymentInstallmentJdbcRepository = repaymentInstallmentJdbcRepository;
+        this.calculator = new RepaymentScheduleCalculator(properties.annualRateBasisPoints());
+    }
+
+    /**
+     * Schedules the loans of {@code approved} applicants in one calculation, sets each loan's
+     * {@code dueDate} to its final installment and inserts all installments as one batch. Must run
+     * in the transaction that persists the loans.
+     */
+    public void createSchedules(List<Applicant> approved) {
+        if (approved.isEmpty()) {
+            return;
+        }
+        long[] principals = new long[approved.size()];
+        int[] tenors = new int[approved.size()];
+        UUID[] loanIds = new UUID[approved.size()];
+        for (int i = 0; i < approved.size(); i++) {
+            Applicant applicant = approved.get(i);
+            principals[i] = RepaymentScheduleCalculator.toMinorUnits(applicant.getLoan().getCredited());
+            tenors[i] = applicant.getTenor();
+            loanIds[i] = applicant.getLoan().getId();
+        }
+
+        RepaymentSchedule schedule = calculator.scheduleAll(
+                principals, tenors, LocalDate.now(ZoneOffset.UTC).plusMonths(1));
+
+        for (int i = 0; i < approved.size(); i++) {
+            Loan loan = approved.get(i).getLoan();
+            loan.setDueDate(schedule.finalDueDate(i).atStartOfDay(ZoneOffset.UTC).toInstant());
+        }
+        repaymentInstallmentJdbcRepository.insertAll(schedule, loanIds);
+    }
+}
@@ -1,16 +1,28 @@
 package com.clement.loanapp.loanApplication.web;
 
+import com.clement.loanapp.common.BadRequestException;
+import com.clement.loanapp.loanApplication.BulkApplyProperties;
 import com.clement.loanapp.loanApplication.domain.dto.ApplicantLoanRequest;
 import com.clement.loanapp.loanApplication.domain.dto.ApplicantResponse;
 import com.clement.loanapp.loanApplication.domain.dto.ApprovalRequest;
+import com.clement.loanapp.loanApplication.domain.dto.BulkApplyResponse;
+import com.clement.loanapp.loanApplication.domain.dto.CursorPage;
+import com.clement.loanapp.loanApplication.domain.dto.ExportFormat;
 import com.clement.loanapp.loanApplication.domain.dto.GenericMessage;
+import com.clement.loanapp.loanApplication.domain.dto.PortfolioStatsResponse;
 import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+import com.clement.loanapp.loanApplication.service.ApplicantExportService;
+import com.clement.loanapp.loanApplication.service.BulkApplicationService;
 import com.clement.loanapp.loanApplication.service.LoanService;
+import com.clement.loanapp.loanApplication.service.PortfolioStatistics;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jdk.jfr.BooleanFlag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,6 +30,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/loan")
@@ -25,6 +49,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ApplicantController {
     private final LoanService loanService;
+    private final ApplicantExportService applicantExportService;
+    private final BulkApplicationService bulkApplicationService;
+    private final PortfolioStatistics portfolioStatistics;
+    private final ObjectMapper objectMapper;
+    private final BulkApplyProperties bulkApplyProperties;
 
 
     @PostMapping("/apply")
@@ -34,10 +63,86 @@ public class ApplicantController {
         return loanService.createLoanForApplication(request);
     }
 
+    @PostMapping(value = "/apply/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkApplyResponse createLoansForApplications(InputStream body) {
+        // elements are bound one at a time from a parser that still has the rest of the array ahead
+        ObjectReader reader = objectMapper.readerFor(ApplicantLoanRequest.class)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        List<ApplicantLoanRequest> requests = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("A bulk request body must be a JSON array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BadRequestException("Malformed JSON body: unexpected end of input");
+                }
+                checkBulkLimit(requests);
+                requests.add(reader.readValue(parser));
+            }
+        } catch (JacksonException ex) {
+            throw new BadRequestException("Malformed JSON body: " + ex.getOriginalMessage());
+        }
+        return bulkApplicationService.createLoansForApplications(requests);
+    }
+
+    @PostMapping(value = "/apply/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkApplyResponse createLoansForApplicationsFromNdjson(InputStream body) {
+        List<ApplicantLoanRequest> requests = new ArrayList<>();
+        try (MappingIterator<ApplicantLoanRequest> lines =
+                     objectMapper.readerFor(ApplicantLoanRequest.class).readValues(body)) {
+            while (lines.hasNextValue()) {
+                checkBulkLimit(requests);
+                requests.add(lines.nextValue());
+            }
+        } catch (JacksonException ex) {
+            throw new BadRequestException("Malformed NDJSON body: " + ex.getOriginalMessage());
+        }
+        return bulkApplicationService.createLoansForApplications(requests);
+    }
+
+    // called before each item, so an oversized body is rejected at the first item past the limit
+    // instead of being buffered
+    private void checkBulkLimit(List<ApplicantLoanRequest> requests) {
+        int maxItems = bulkApplyProperties.maxItems();
+        if (requests.size() == maxItems) {
+            throw new BadRequestException("A bulk request may contain at most " + maxItems + " items");
+        }
+    }
+
     @GetMapping("/applicants")
-    public Page<ApplicantResponse> getAllApplicant(@RequestParam(required = false, defaultValue = "0") int page,
-                                                   @RequestParam(required = false, defaultValue = "100") int size){
-        return loanService.getAllApplicants(page,size);
+    public Slice<ApplicantResponse> getAllApplicant(@RequestParam(required = false, defaultValue = "0") int page,
+                                                    @RequestParam(required = false, defaultValue = "100") int size,
+                                                    @RequestParam(required = false, defaultValue = "true") boolean count){
+        return count ? loanService.getAllApplicants(page,size) : loanService.getApplicantSlice(page,size);
+    }
+
+    @GetMapping("/applicants/scroll")
+    public CursorPage<ApplicantResponse> getApplicantsByCursor(@RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false, defaultValue = "100") int size){
+        return loanService.getApplicantsByCursor(cursor,size);
+    }
+
+    @GetMapping("/applicants/export")
+    public void exportApplicants(@RequestParam(required = false, defaultValue = "ndjson") String format,
+                                 HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=applicants." + exportFormat.getExtension());
+        applicantExportService.export(exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/applicants/{applicantId}/status")
+    public LoanStatus getApplicantStatus(@PathVariable String applicantId) {
+        return loanService.getApplicantStatus(applicantId);
+    }
+
+    @GetMapping("/portfolio/stats")
+    public PortfolioStatsResponse getPortfolioStats() {
+        return portfolioStatistics.snapshot();
     }
 
     @PostMapping("/approve/{applicantId}")
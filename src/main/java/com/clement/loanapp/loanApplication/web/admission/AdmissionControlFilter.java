@@ -0,0 +1,129 @@
+package com.clement.loanapp.loanApplication.web.admission;
+
+import com.clement.loanapp.loanApplication.AdmissionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for the loan API, run before any other application filter. Each request first
+ * takes a token from its client's bucket, then a permit for its {@link EndpointClass}. Neither
+ * step waits: a request over either limit gets an immediate 429 with {@code Retry-After}, so an
+ * overloaded client cannot tie up Tomcat threads or Hikari connections that other clients need.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    private final AdmissionProperties properties;
+    private final ClientIdentity clientIdentity;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<EndpointClass, Semaphore> permits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rateLimited = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> overCapacity = new EnumMap<>(EndpointClass.class);
+
+    public AdmissionControlFilter(AdmissionProperties properties, ClientIdentity clientIdentity, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.clientIdentity = clientIdentity;
+        this.objectMapper = objectMapper;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxTrackedClients())
+                .expireAfterAccess(properties.clientIdleTimeout())
+                .build();
+
+        permits.put(EndpointClass.READ, new Semaphore(properties.maxConcurrentReads()));
+        permits.put(EndpointClass.WRITE, new Semaphore(properties.maxConcurrentWrites()));
+        permits.put(EndpointClass.APPROVAL, new Semaphore(properties.maxConcurrentApprovals()));
+
+        permits.forEach((endpointClass, semaphore) -> {
+            String endpoint = endpointClass.name().toLowerCase(Locale.ROOT);
+            int limit = semaphore.availablePermits();
+            Gauge.builder("loan.admission.in.flight", semaphore, s -> limit - s.availablePermits())
+                    .description("Admitted requests currently running, by endpoint class")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            rateLimited.put(endpointClass, rejections(meterRegistry, endpoint, "rate_limit"));
+            overCapacity.put(endpointClass, rejections(meterRegistry, endpoint, "concurrency"));
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return endpointClass(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        EndpointClass endpointClass = endpointClass(request);
+        long now = System.nanoTime();
+
+        long waitNanos = buckets
+                .get(clientIdentity.of(request), client -> new TokenBucket(properties.burst(), properties.requestsPerSecond(), now))
+                .tryConsume(now);
+        if (waitNanos > 0) {
+            rateLimited.get(endpointClass).increment();
+            reject(response, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1, "Rate limit exceeded");
+            return;
+        }
+
+        Semaphore semaphore = permits.get(endpointClass);
+        if (!semaphore.tryAcquire()) {
+            overCapacity.get(endpointClass).increment();
+            reject(response, 1, "Too many concurrent requests, retry shortly");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private static EndpointClass endpointClass(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return EndpointClass.of(request.getMethod(), path);
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds, String detail) throws IOException {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setTitle(status.getReasonPhrase());
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String endpoint, String reason) {
+        return Counter.builder("loan.admission.rejected")
+                .description("Requests answered with 429, by endpoint class and reason")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.clement.loanapp.loanApplication.web.admission;
+
+import com.clement.loanapp.loanApplication.AdmissionProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Resolves the client a request is accounted to. An {@code X-API-Key} counts only when it is one
+ * of {@code loan.admission.api-keys}; any other key is ignored and the client is its remote
+ * address, so a caller cannot mint a fresh identity per request by rotating made-up keys.
+ */
+@Component
+public class ClientIdentity {
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    private final Set<String> apiKeys;
+
+    public ClientIdentity(AdmissionProperties properties) {
+        this.apiKeys = Set.copyOf(properties.apiKeys());
+    }
+
+    // getRemoteAddr() already honours x-forwarded-for through server.tomcat.remoteip
+    public String of(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+}
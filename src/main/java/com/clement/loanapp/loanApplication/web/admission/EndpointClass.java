@@ -0,0 +1,27 @@
+package com.clement.loanapp.loanApplication.web.admission;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Groups loan API endpoints by the resources they hold, so each group gets its own concurrency
+ * cap: reads hold a connection for a query, writes hold one for an insert, approvals hold one for
+ * a read-modify-write.
+ */
+enum EndpointClass {
+    READ, WRITE, APPROVAL;
+
+    private static final String API_PREFIX = "/api/v1/loan/";
+
+    static EndpointClass of(String method, String path) {
+        if (!path.startsWith(API_PREFIX)) {
+            return null;
+        }
+        if (HttpMethod.GET.matches(method)) {
+            return READ;
+        }
+        if (!HttpMethod.POST.matches(method)) {
+            return null;
+        }
+        return path.startsWith(API_PREFIX + "approve/") ? APPROVAL : WRITE;
+    }
+}
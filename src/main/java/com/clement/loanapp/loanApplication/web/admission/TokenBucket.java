@@ -0,0 +1,33 @@
+package com.clement.loanapp.loanApplication.web.admission;
+
+/**
+ * Token bucket refilled continuously at {@code ratePerSecond} up to {@code capacity}. One bucket
+ * belongs to one client, so the lock is only contended by that client's own concurrent requests.
+ */
+final class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double capacity, double ratePerSecond, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = ratePerSecond / 1e9;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Takes one token if available. Returns zero on success, otherwise the nanoseconds until a
+     * token will be available.
+     */
+    synchronized long tryConsume(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -0,0 +1,247 @@
+package com.clement.loanapp.loanApplication.web.idempotency;
+
+import com.clement.loanapp.loanApplication.IdempotencyProperties;
+import com.clement.loanapp.loanApplication.web.admission.ClientIdentity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Honours the {@code Idempotency-Key} header on {@code POST /apply} and {@code POST /approve/{id}}.
+ * The first request with a key runs normally and its response is stored; a retry with the same key
+ * and body gets that response replayed without reaching the controller. Reusing a key with a
+ * different body is rejected with 422, and a retry that arrives while the first request is still
+ * running gets 409. Server errors are not stored, so the client can retry them. Keys are scoped
+ * to the calling client, so two clients that pick the same key never see each other's responses.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 200)
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String APPLY_PATH = "/api/v1/loan/apply";
+    private static final String APPROVE_PATH_PREFIX = "/api/v1/loan/approve/";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ClientIdentity clientIdentity;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, IdempotencyProperties properties,
+                             ClientIdentity clientIdentity, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.idempotencyStore = idempotencyStore;
+        this.clientIdentity = clientIdentity;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = Math.toIntExact(properties.maxBodySize().toBytes());
+        this.executed = requests(meterRegistry, "executed");
+        this.replayed = requests(meterRegistry, "replayed");
+        this.rejected = requests(meterRegistry, "rejected");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.equals(APPLY_PATH) && !path.startsWith(APPROVE_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).strip();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            rejected.increment();
+            writeProblem(response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = request.getContentLengthLong() > maxBodyBytes
+                ? null
+                : request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body == null || body.length > maxBodyBytes) {
+            rejected.increment();
+            writeProblem(response, HttpStatus.CONTENT_TOO_LARGE,
+                    "A request with an " + IDEMPOTENCY_KEY_HEADER + " may carry at most " + maxBodyBytes + " bytes");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String fingerprint = sha256(body);
+        // hashed so the stored key has a fixed length whatever the URI and header length
+        String key = sha256((clientIdentity.of(request) + ' ' + request.getMethod() + ' ' + request.getRequestURI()
+                + ' ' + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+
+        Optional<IdempotencyRecord> existing = idempotencyStore.reserve(key, fingerprint);
+        if (existing.isPresent()) {
+            answerFromRecord(existing.get(), fingerprint, response);
+            return;
+        }
+
+        executed.increment();
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(cachedRequest, cachedResponse);
+            if (cachedResponse.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                idempotencyStore.complete(key, new IdempotencyRecord(
+                        fingerprint,
+                        cachedResponse.getStatus(),
+                        cachedResponse.getContentType(),
+                        cachedResponse.getContentAsByteArray()
+                ));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(key);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void answerFromRecord(IdempotencyRecord record, String fingerprint, HttpServletResponse response)
+            throws IOException {
+        if (!record.fingerprint().equals(fingerprint)) {
+            rejected.increment();
+            writeProblem(response, HttpStatus.UNPROCESSABLE_CONTENT,
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            return;
+        }
+        if (!record.isCompleted()) {
+            rejected.increment();
+            writeProblem(response, HttpStatus.CONFLICT,
+                    "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed");
+            return;
+        }
+
+        replayed.increment();
+        response.setStatus(record.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        if (record.body() != null) {
+            response.setContentLength(record.body().length);
+            response.getOutputStream().write(record.body());
+        }
+    }
+
+    private void writeProblem(HttpServletResponse response, HttpStatus status, String detail) throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setTitle(status.getReasonPhrase());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("loan.idempotency.requests")
+                .description("Requests carrying an Idempotency-Key, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serves the body read up front, so it can be fingerprinted and still be read by the controller.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Asynchronous reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
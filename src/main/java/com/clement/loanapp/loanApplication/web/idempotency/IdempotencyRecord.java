@@ -0,0 +1,17 @@
+package com.clement.loanapp.loanApplication.web.idempotency;
+
+/**
+ * What an {@link IdempotencyStore} holds for one key: the fingerprint of the request that first
+ * used it and, once that request has finished, the response to replay. {@code status} is zero
+ * while the first request is still running.
+ */
+public record IdempotencyRecord(String fingerprint, int status, String contentType, byte[] body) {
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, 0, null, null);
+    }
+
+    public boolean isCompleted() {
+        return status != 0;
+    }
+}
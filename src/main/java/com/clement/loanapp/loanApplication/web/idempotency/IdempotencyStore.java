@@ -0,0 +1,22 @@
+package com.clement.loanapp.loanApplication.web.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Backend for {@link IdempotencyFilter}. Implementations must make {@link #reserve} atomic: of
+ * several concurrent callers with the same key exactly one gets an empty result.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claims {@code key} for a new request. Returns empty when the caller now owns the key, or the
+     * record already stored under it.
+     */
+    Optional<IdempotencyRecord> reserve(String key, String fingerprint);
+
+    /** Stores the finished response for a key the caller reserved. */
+    void complete(String key, IdempotencyRecord record);
+
+    /** Forgets a reserved key so the request can be retried, e.g. after a server error. */
+    void release(String key);
+}
@@ -0,0 +1,49 @@
+package com.clement.loanapp.loanApplication.web.idempotency;
+
+import com.clement.loanapp.loanApplication.IdempotencyProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Per-node store backed by a bounded Caffeine cache. Replays cost a hash lookup, but a retry that
+ * lands on a different node is executed again; use the JDBC store behind a load balancer without
+ * sticky sessions.
+ */
+@Component
+@ConditionalOnProperty(prefix = "loan.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private final Cache<String, IdempotencyRecord> records;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.records = CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                Caffeine.newBuilder()
+                        .maximumSize(properties.maximumSize())
+                        .expireAfterWrite(properties.ttl())
+                        .recordStats()
+                        .<String, IdempotencyRecord>build(),
+                "idempotency.keys"
+        );
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> reserve(String key, String fingerprint) {
+        return Optional.ofNullable(records.asMap().putIfAbsent(key, IdempotencyRecord.inProgress(fingerprint)));
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        records.put(key, record);
+    }
+
+    @Override
+    public void release(String key) {
+        records.invalidate(key);
+    }
+}
@@ -0,0 +1,104 @@
+package com.clement.loanapp.loanApplication.web.idempotency;
+
+import com.clement.loanapp.loanApplication.IdempotencyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Store shared by every node through the {@code idempotency_key} table. Each operation commits in
+ * its own transaction, independent of the request it protects, so a reservation is visible to
+ * other nodes immediately. Expired rows are reclaimed by
+ * {@link #reserve} and purged in the background.
+ */
+@Component
+@ConditionalOnProperty(prefix = "loan.idempotency", name = "store", havingValue = "jdbc")
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    // a row whose ttl has passed is taken over as if it were absent
+    private static final String RESERVE = """
+            INSERT INTO idempotency_key (idempotency_key, fingerprint, status, created_at, expires_at)
+            VALUES (?, ?, 0, now(), now() + make_interval(secs => ?))
+            ON CONFLICT (idempotency_key) DO UPDATE
+                SET fingerprint = EXCLUDED.fingerprint, status = 0, content_type = NULL, body = NULL,
+                    created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+                WHERE idempotency_key.expires_at < now()
+            """;
+
+    private static final RowMapper<IdempotencyRecord> RECORD = (resultSet, rowNum) -> new IdempotencyRecord(
+            resultSet.getString("fingerprint"),
+            resultSet.getInt("status"),
+            resultSet.getString("content_type"),
+            resultSet.getBytes("body")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyProperties properties;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                IdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<IdempotencyRecord> reserve(String key, String fingerprint) {
+        int inserted = jdbcTemplate.update(RESERVE, key, fingerprint, (double) properties.ttl().toSeconds());
+        if (inserted == 1) {
+            return Optional.empty();
+        }
+        List<IdempotencyRecord> existing = jdbcTemplate.query(
+                "SELECT fingerprint, status, content_type, body FROM idempotency_key WHERE idempotency_key = ?",
+                RECORD, key);
+        // released between our insert attempt and the read: report it as in progress, the client retries
+        return Optional.of(existing.isEmpty() ? IdempotencyRecord.inProgress(fingerprint) : existing.get(0));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(String key, IdempotencyRecord record) {
+        jdbcTemplate.update(
+                "UPDATE idempotency_key SET status = ?, content_type = ?, body = ? WHERE idempotency_key = ?",
+                record.status(), record.contentType(), record.body(), key);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_key WHERE idempotency_key = ?", key);
+    }
+
+    @Scheduled(fixedDelayString = "${loan.idempotency.purge-interval:PT5M}")
+    public void purgeExpired() {
+        int purged;
+        int total = 0;
+        do {
+            // one short transaction per batch keeps locks and WAL bursts small
+            Integer deleted = transactionTemplate.execute(status -> jdbcTemplate.update("""
+                    DELETE FROM idempotency_key WHERE idempotency_key IN (
+                        SELECT idempotency_key FROM idempotency_key WHERE expires_at < now() LIMIT ?
+                    )
+                    """, PURGE_BATCH_SIZE));
+            purged = deleted == null ? 0 : deleted;
+            total += purged;
+        } while (purged == PURGE_BATCH_SIZE);
+        if (total > 0) {
+            log.debug("Purged {} expired idempotency keys", total);
+        }
+    }
+}
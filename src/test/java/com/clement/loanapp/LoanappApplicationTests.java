@@ -3,7 +3,8 @@ package com.clement.loanapp;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// no migrations run against the test database, so the scheduled jobs would only log missing tables
+@SpringBootTest(properties = "loan.scheduling.enabled=false")
 class LoanappApplicationTests {
 
     @Test
@@ -0,0 +1,143 @@
+package com.clement.loanapp.loanApplication;
+
+import com.clement.loanapp.loanApplication.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReadReplicaConfig Tests")
+class ReadReplicaConfigTest {
+
+    private final ReadReplicaConfig config = new ReadReplicaConfig();
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate lagQuery = mock(JdbcTemplate.class);
+        when(lagQuery.queryForObject(anyString(), eq(Double.class))).thenReturn(0.0);
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(lagQuery, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        lagMonitor.check();
+
+        DataSource routing = config.dataSource(h2("primary"), h2("replica"), lagMonitor);
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(routing);
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setPackagesToScan(ReadReplicaConfigTest.class.getPackageName() + ".none");
+        entityManagerFactoryBean.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactoryBean.destroy();
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    private String databaseInTransaction(boolean readOnly) {
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT DATABASE()").getSingleResult());
+    }
+
+    @Test
+    @DisplayName("Should route a read-only JPA transaction to the replica through the lazy connection proxy")
+    void shouldRouteReadOnlyJpaTransactionToReplica() {
+        // Act & Assert
+        assertThat(databaseInTransaction(true)).isEqualToIgnoringCase("replica");
+    }
+
+    @Test
+    @DisplayName("Should keep a read-write JPA transaction on the primary")
+    void shouldKeepReadWriteJpaTransactionOnPrimary() {
+        // Act & Assert
+        assertThat(databaseInTransaction(false)).isEqualToIgnoringCase("primary");
+    }
+
+    @Test
+    @DisplayName("Should connect the primary pool through the registered connection details")
+    void shouldUseConnectionDetailsForPrimary() {
+        // Arrange
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:from-properties");
+        JdbcConnectionDetails dockerCompose = new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return "compose";
+            }
+
+            @Override
+            public String getPassword() {
+                return "secret";
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return "jdbc:h2:mem:from-compose";
+            }
+        };
+        ObjectProvider<JdbcConnectionDetails> connectionDetails =
+                new StaticListableBeanFactory(Map.of("jdbcConnectionDetails", dockerCompose))
+                        .getBeanProvider(JdbcConnectionDetails.class);
+
+        // Act
+        try (HikariDataSource primary = config.primaryDataSource(properties, connectionDetails)) {
+
+            // Assert
+            assertThat(primary.getJdbcUrl()).isEqualTo("jdbc:h2:mem:from-compose");
+            assertThat(primary.getUsername()).isEqualTo("compose");
+            assertThat(primary.getPoolName()).isEqualTo("primary");
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to spring.datasource properties without connection details")
+    void shouldFallBackToDataSourceProperties() {
+        // Arrange
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:from-properties");
+        properties.setUsername("loan");
+
+        // Act
+        try (HikariDataSource primary = config.primaryDataSource(properties,
+                new StaticListableBeanFactory().getBeanProvider(JdbcConnectionDetails.class))) {
+
+            // Assert
+            assertThat(primary.getJdbcUrl()).isEqualTo("jdbc:h2:mem:from-properties");
+            assertThat(primary.getUsername()).isEqualTo("loan");
+        }
+    }
+}
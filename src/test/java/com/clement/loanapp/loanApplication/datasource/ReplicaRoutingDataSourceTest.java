@@ -0,0 +1,141 @@
+package com.clement.loanapp.loanApplication.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private JdbcTemplate replicaJdbcTemplate;
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+        lagMonitor = new ReplicaLagMonitor(replicaJdbcTemplate, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private void replicaLag(Double seconds) {
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Double.class)).thenReturn(seconds);
+        lagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to a current replica")
+    void shouldRouteReadOnlyToReplica() throws SQLException {
+        // Arrange
+        replicaLag(0.2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("Should keep read-write transactions on the primary")
+    void shouldRouteWritesToPrimary() throws SQLException {
+        // Arrange
+        replicaLag(0.0);
+
+        // Act & Assert
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary until the replica has been checked")
+    void shouldUsePrimaryBeforeFirstCheck() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertThat(lagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags too far behind")
+    void shouldFallBackWhenReplicaLags() throws SQLException {
+        // Arrange
+        replicaLag(0.0);
+        replicaLag(12.5);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica's WAL receiver is not streaming")
+    void shouldFallBackWhenReceiverDisconnected() throws SQLException {
+        // Arrange
+        replicaLag(0.0);
+        replicaLag(null);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertThat(lagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica cannot be reached and return once it recovers")
+    void shouldFallBackWhenReplicaUnreachable() throws SQLException {
+        // Arrange
+        replicaLag(0.0);
+        when(replicaJdbcTemplate.queryForObject(eq(ReplicaLagMonitor.LAG_QUERY), eq(Double.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(1.0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        lagMonitor.check();
+        Connection whileDown = routingDataSource.getConnection();
+        lagMonitor.check();
+
+        // Assert
+        assertThat(whileDown).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+}
@@ -0,0 +1,214 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import com.clement.loanapp.loanApplication.ArchivalProperties;
+import com.clement.loanapp.loanApplication.service.ApplicantArchivalJob;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the archive move against a real PostgreSQL with the Flyway migrations applied: H2 supports
+ * neither {@code DELETE ... RETURNING} in a CTE nor declarative partitioning, so only PostgreSQL
+ * can tell whether the statement moves the right rows into the right partitions.
+ */
+@DisplayName("ApplicantArchiveJdbcRepository PostgreSQL Tests")
+class ApplicantArchiveJdbcRepositoryTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final ApplicantJdbcRepository applicantJdbcRepository = new ApplicantJdbcRepository(jdbcTemplate);
+    private final ApplicantArchiveJdbcRepository applicantArchiveJdbcRepository =
+            new ApplicantArchiveJdbcRepository(jdbcTemplate);
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).locations("filesystem:migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("TRUNCATE applicant, applicant_archive, applicant_email, loan CASCADE");
+    }
+
+    private Applicant register(String email, LoanStatus status, BigDecimal balance, LocalDateTime createdAt) {
+        Applicant applicant = Applicant.builder()
+                .id(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .email(email)
+                .monthlyIncome(new BigDecimal("5000.00"))
+                .requestLoanAmount(new BigDecimal("10000.00"))
+                .monthlyPayment(new BigDecimal("1000.00"))
+                .tenor(12)
+                .status(LoanStatus.DRAFT)
+                .creditCheck(false)
+                .build();
+        assertThat(applicantJdbcRepository.insertIfAbsent(applicant)).isTrue();
+        jdbcTemplate.update("UPDATE applicant SET status = ?, balance = ?, created_at = ? WHERE pk = ?",
+                status.name(), balance, createdAt, applicant.getPk());
+        return applicant;
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+
+    private String partitionOf(Applicant applicant) {
+        return jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM applicant_archive WHERE id = ?", String.class, applicant.getId());
+    }
+
+    @Test
+    @DisplayName("Should move only cold applicants created before the cutoff, column for column")
+    void shouldMoveColdApplicants() {
+        // Arrange
+        Applicant rejected = register("rejected@example.com", LoanStatus.REJECTED, null,
+                LocalDateTime.of(2026, 1, 10, 9, 30));
+        Applicant repaid = register("repaid@example.com", LoanStatus.APPROVED, BigDecimal.ZERO,
+                LocalDateTime.of(2026, 2, 20, 14, 0));
+        register("repaying@example.com", LoanStatus.APPROVED, new BigDecimal("250.00"), LocalDateTime.of(2026, 1, 5, 8, 0));
+        register("pending@example.com", LoanStatus.PENDING, null, LocalDateTime.of(2026, 1, 5, 8, 0));
+        register("recent@example.com", LoanStatus.REJECTED, null, LocalDateTime.of(2026, 3, 2, 8, 0));
+        Map<String, Object> before = jdbcTemplate.queryForMap("SELECT * FROM applicant WHERE pk = ?", rejected.getPk());
+        assertThat(count("applicant")).isEqualTo(5);
+        assertThat(count("applicant_archive")).isZero();
+
+        // Act
+        applicantArchiveJdbcRepository.createPartition(YearMonth.of(2026, 1));
+        applicantArchiveJdbcRepository.createPartition(YearMonth.of(2026, 2));
+        int moved = applicantArchiveJdbcRepository.archiveBatch(CUTOFF, 100);
+
+        // Assert
+        assertThat(moved).isEqualTo(2);
+        assertThat(count("applicant")).isEqualTo(3);
+        assertThat(count("applicant_archive")).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT email FROM applicant ORDER BY email", String.class))
+                .containsExactly("pending@example.com", "recent@example.com", "repaying@example.com");
+
+        Map<String, Object> after = jdbcTemplate.queryForMap("SELECT * FROM applicant_archive WHERE pk = ?", rejected.getPk());
+        assertThat(after.get("archived_at")).isNotNull();
+        after.remove("archived_at");
+        assertThat(after).isEqualTo(before);
+
+        assertThat(partitionOf(rejected)).isEqualTo("applicant_archive_2026_01");
+        assertThat(partitionOf(repaid)).isEqualTo("applicant_archive_2026_02");
+    }
+
+    @Test
+    @DisplayName("Should stop at the batch limit, oldest first")
+    void shouldMoveOldestFirstUpToLimit() {
+        // Arrange
+        Applicant oldest = register("oldest@example.com", LoanStatus.REJECTED, null, LocalDateTime.of(2026, 1, 1, 0, 0));
+        register("newer@example.com", LoanStatus.REJECTED, null, LocalDateTime.of(2026, 1, 2, 0, 0));
+
+        // Act
+        int moved = applicantArchiveJdbcRepository.archiveBatch(CUTOFF, 1);
+
+        // Assert
+        assertThat(moved).isEqualTo(1);
+        assertThat(count("applicant")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM applicant_archive", UUID.class))
+                .containsExactly(oldest.getId());
+    }
+
+    @Test
+    @DisplayName("Should land rows without a month partition in the default partition")
+    void shouldUseDefaultPartitionWithoutMonthPartition() {
+        // Arrange
+        Applicant rejected = register("rejected@example.com", LoanStatus.REJECTED, null,
+                LocalDateTime.of(2025, 6, 1, 0, 0));
+
+        // Act
+        applicantArchiveJdbcRepository.archiveBatch(CUTOFF, 100);
+
+        // Assert
+        assertThat(partitionOf(rejected)).isEqualTo("applicant_archive_default");
+    }
+
+    @Test
+    @DisplayName("Should create a partition per month and archive everything through the job")
+    void shouldArchiveThroughJob() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            register("jan" + i + "@example.com", LoanStatus.REJECTED, null, LocalDateTime.of(2025, 12, 1 + i, 0, 0));
+            register("feb" + i + "@example.com", LoanStatus.APPROVED, BigDecimal.ZERO, LocalDateTime.of(2026, 2, 1 + i, 0, 0));
+        }
+        ApplicantArchivalJob job = new ApplicantArchivalJob(
+                applicantArchiveJdbcRepository,
+                new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource())),
+                new ArchivalProperties(Duration.ofDays(180), 3)
+        );
+
+        // Act
+        long moved = job.archive(CUTOFF);
+
+        // Assert
+        assertThat(moved).isEqualTo(10);
+        assertThat(count("applicant")).isZero();
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT tableoid::regclass::text || ':' || count(*) FROM applicant_archive
+                GROUP BY tableoid ORDER BY 1
+                """, String.class))
+                .containsExactly("applicant_archive_2025_12:5", "applicant_archive_2026_02:5");
+    }
+
+    @Test
+    @DisplayName("Should keep an archived email registered and its status readable by id")
+    void shouldKeepArchivedApplicantRegistered() {
+        // Arrange
+        Applicant rejected = register("rejected@example.com", LoanStatus.REJECTED, null,
+                LocalDateTime.of(2026, 1, 10, 0, 0));
+        applicantArchiveJdbcRepository.archiveBatch(CUTOFF, 100);
+        Applicant again = Applicant.builder()
+                .id(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .email("rejected@example.com")
+                .tenor(12)
+                .status(LoanStatus.DRAFT)
+                .build();
+
+        // Act
+        boolean inserted = applicantJdbcRepository.insertIfAbsent(again);
+        int[] batchCounts = applicantJdbcRepository.insertAll(List.of(again));
+
+        // Assert
+        assertThat(inserted).isFalse();
+        assertThat(batchCounts).containsExactly(0);
+        assertThat(count("applicant")).isZero();
+        assertThat(applicantJdbcRepository.findExistingEmails(List.of("rejected@example.com", "new@example.com")))
+                .containsExactly("rejected@example.com");
+        assertThat(applicantArchiveJdbcRepository.findStatusById(rejected.getId())).contains(LoanStatus.REJECTED);
+        assertThat(applicantArchiveJdbcRepository.findStatusById(UUID.randomUUID())).isEmpty();
+    }
+}
@@ -0,0 +1,173 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import com.clement.loanapp.loanApplication.DataConfig;
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the number of SQL statements behind each repository call the endpoints use, so an eager
+ * association or N+1 pattern sneaking back in fails the build instead of showing up in production.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(DataConfig.class)
+@DisplayName("ApplicantRepository Statement Count Tests")
+class ApplicantRepositoryStatementCountTest {
+
+    private static final int APPLICANTS = 20;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private final List<Applicant> applicants = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < APPLICANTS; i++) {
+            applicants.add(entityManager.persist(approvedApplicant(i)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load an applicant by id in one statement without its loan")
+    void shouldLoadApplicantByIdInOneStatement() {
+        // Act
+        Optional<Applicant> applicant = applicantRepository.findApplicantById(applicants.get(0).getId());
+
+        // Assert
+        assertThat(applicant).isPresent();
+        assertThat(Hibernate.isInitialized(applicant.get().getLoan())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load an applicant by email in one statement without its loan")
+    void shouldLoadApplicantByEmailInOneStatement() {
+        // Act
+        Optional<Applicant> applicant = applicantRepository.findByEmail(applicants.get(0).getEmail());
+
+        // Assert
+        assertThat(applicant).isPresent();
+        assertThat(Hibernate.isInitialized(applicant.get().getLoan())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load a batch of applicants by email in one statement")
+    void shouldLoadBatchByEmailInOneStatement() {
+        // Act
+        List<Applicant> loaded = applicantRepository.findAllByEmailIn(
+                applicants.stream().map(Applicant::getEmail).toList());
+
+        // Assert
+        assertThat(loaded).hasSize(APPLICANTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read a keyset page in one statement regardless of page size")
+    void shouldReadKeysetPageInOneStatement() {
+        // Act
+        List<Applicant> loaded = applicantRepository.findFirstByKeyset(Limit.of(APPLICANTS));
+
+        // Assert
+        assertThat(loaded).hasSize(APPLICANTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read a counted page with one select and one count")
+    void shouldReadCountedPageInTwoStatements() {
+        // Act
+        Page<ApplicantResponse> page = applicantRepository.findAllResponses(PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(APPLICANTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should read a slice in one statement")
+    void shouldReadSliceInOneStatement() {
+        // Act
+        Slice<ApplicantResponse> slice = applicantRepository.findResponseSlice(PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(slice.getContent()).hasSize(10);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should check an applicant version in one statement")
+    void shouldCheckVersionInOneStatement() {
+        // Act
+        Optional<Integer> version = applicantRepository.findVersionById(applicants.get(0).getId());
+
+        // Assert
+        assertThat(version).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private static Applicant approvedApplicant(int i) {
+        Loan loan = Loan.builder()
+                .id(UUID.randomUUID())
+                .credited(new BigDecimal("10000"))
+                .dueDate(Instant.now())
+                .build();
+        return Applicant.builder()
+                .id(UUID.randomUUID())
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .email("applicant" + i + "@example.com")
+                .monthlyIncome(new BigDecimal("5000"))
+                .requestLoanAmount(new BigDecimal("10000"))
+                .monthlyPayment(new BigDecimal("500"))
+                .status(LoanStatus.APPROVED)
+                .creditCheck(true)
+                .balance(new BigDecimal("10000"))
+                .tenor(12)
+                .loan(loan)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.clement.loanapp.loanApplication.domain.model;
+
+import com.clement.loanapp.loanApplication.domain.event.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRepository Tests")
+class OutboxRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private OutboxRepository outboxRepository;
+
+    @Test
+    @DisplayName("Should claim only due rows and hide them for the length of the lease")
+    void shouldClaimUnderLease() {
+        // Act
+        outboxRepository.claim(25, Duration.ofSeconds(30));
+
+        // Assert
+        ArgumentCaptor<Object> leaseUntil = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> now = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).query(contains("FOR UPDATE SKIP LOCKED"), ArgumentMatchers.<RowMapper<OutboxEvent>>any(),
+                leaseUntil.capture(), now.capture(), eq(25));
+        assertThat(Duration.between((LocalDateTime) now.getValue(), (LocalDateTime) leaseUntil.getValue()))
+                .isEqualTo(Duration.ofSeconds(30));
+        assertThat((LocalDateTime) now.getValue()).isCloseTo(LocalDateTime.now(ZoneOffset.UTC),
+                within(Duration.ofSeconds(5).toMillis(), ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("Should park a failed row by moving it out of reach and truncate long errors")
+    void shouldParkFailedRow() {
+        // Act
+        outboxRepository.recordFailure(7, "x".repeat(5000), true);
+
+        // Assert
+        ArgumentCaptor<String> error = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(contains("'infinity'"), error.capture(), eq(true), eq(7L));
+        assertThat(error.getValue()).hasSize(1000);
+    }
+
+    @Test
+    @DisplayName("Should not touch the table when there is nothing to delete")
+    void shouldSkipEmptyDelete() {
+        // Act
+        outboxRepository.deleteAll(List.of());
+
+        // Assert
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
@@ -0,0 +1,103 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.ArchivalProperties;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantArchiveJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicantArchivalJob Tests")
+class ApplicantArchivalJobTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 3, 15, 0, 0);
+
+    @Mock
+    private ApplicantArchiveJdbcRepository applicantArchiveJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicantArchivalJob applicantArchivalJob;
+
+    @BeforeEach
+    void setUp() {
+        applicantArchivalJob = new ApplicantArchivalJob(
+                applicantArchiveJdbcRepository,
+                new TransactionTemplate(transactionManager),
+                new ArchivalProperties(Duration.ofDays(180), 100)
+        );
+    }
+
+    @Test
+    @DisplayName("Should create month partitions before moving rows and archive in batches until a short batch")
+    void shouldArchiveInBatches() {
+        // Arrange
+        when(applicantArchiveJdbcRepository.findOldestCold(CUTOFF)).thenReturn(LocalDateTime.of(2026, 1, 20, 9, 0));
+        when(applicantArchiveJdbcRepository.archiveBatch(CUTOFF, 100)).thenReturn(100, 100, 42);
+
+        // Act
+        long archived = applicantArchivalJob.archive(CUTOFF);
+
+        // Assert
+        assertThat(archived).isEqualTo(242);
+        InOrder order = inOrder(applicantArchiveJdbcRepository);
+        order.verify(applicantArchiveJdbcRepository).createPartition(YearMonth.of(2026, 1));
+        order.verify(applicantArchiveJdbcRepository).createPartition(YearMonth.of(2026, 2));
+        order.verify(applicantArchiveJdbcRepository).createPartition(YearMonth.of(2026, 3));
+        order.verify(applicantArchiveJdbcRepository, times(3)).archiveBatch(CUTOFF, 100);
+        verify(transactionManager, times(6)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no applicant is cold")
+    void shouldSkipWhenNothingIsCold() {
+        // Arrange
+        when(applicantArchiveJdbcRepository.findOldestCold(CUTOFF)).thenReturn(null);
+
+        // Act
+        long archived = applicantArchivalJob.archive(CUTOFF);
+
+        // Assert
+        assertThat(archived).isZero();
+        verify(applicantArchiveJdbcRepository, never()).createPartition(any());
+        verify(applicantArchiveJdbcRepository, never()).archiveBatch(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should still archive when a partition cannot be created")
+    void shouldArchiveWhenPartitionCreationFails() {
+        // Arrange
+        when(applicantArchiveJdbcRepository.findOldestCold(CUTOFF)).thenReturn(LocalDateTime.of(2026, 3, 2, 9, 0));
+        doThrow(new DataIntegrityViolationException("relation already exists"))
+                .when(applicantArchiveJdbcRepository).createPartition(YearMonth.of(2026, 3));
+        when(applicantArchiveJdbcRepository.archiveBatch(CUTOFF, 100)).thenReturn(7);
+
+        // Act
+        long archived = applicantArchivalJob.archive(CUTOFF);
+
+        // Assert
+        assertThat(archived).isEqualTo(7);
+    }
+}
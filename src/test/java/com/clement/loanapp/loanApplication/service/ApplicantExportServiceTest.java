@@ -0,0 +1,70 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantResponse;
+import com.clement.loanapp.loanApplication.domain.dto.ExportFormat;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantRepository;
+import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicantExportService Tests")
+class ApplicantExportServiceTest {
+
+    @Mock
+    private ApplicantRepository applicantRepository;
+
+    private ApplicantExportService applicantExportService;
+
+    @BeforeEach
+    void setUp() {
+        applicantExportService = new ApplicantExportService(applicantRepository, JsonMapper.builder().build());
+        when(applicantRepository.streamAllForExport()).thenReturn(Stream.of(
+                new ApplicantResponse("John Doe", new BigDecimal("5000"), 12, "john@example.com",
+                        new BigDecimal("10000"), LoanStatus.APPROVED, new BigDecimal("10000")),
+                new ApplicantResponse("Smith, Jane", new BigDecimal("6000"), 6, "jane@example.com",
+                        new BigDecimal("15000"), LoanStatus.DRAFT, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line")
+    void shouldWriteNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = applicantExportService.export(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"email\":\"john@example.com\"");
+        assertThat(lines[1]).contains("\"loanStatus\":\"DRAFT\"");
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and quote fields containing separators")
+    void shouldWriteCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = applicantExportService.export(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(2);
+        assertThat(lines[0]).isEqualTo("name,monthlyIncome,tenor,email,requestLoan,loanStatus,amountCredited");
+        assertThat(lines[1]).isEqualTo("John Doe,5000,12,john@example.com,10000,APPROVED,10000");
+        assertThat(lines[2]).isEqualTo("\"Smith, Jane\",6000,6,jane@example.com,15000,DRAFT,");
+    }
+}
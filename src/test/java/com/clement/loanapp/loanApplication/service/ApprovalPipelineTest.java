@@ -0,0 +1,52 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.ApprovalProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApprovalPipeline Tests")
+class ApprovalPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApprovalPipeline approvalPipeline = new ApprovalPipeline(new ApprovalProperties(1, 1, 1), meterRegistry);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        approvalPipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should refuse work once running and queued tasks reach the limit")
+    void shouldApplyBackpressureWhenFull() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocked = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // Act & Assert
+        assertThat(approvalPipeline.submit(blocked)).isTrue();
+        assertThat(approvalPipeline.submit(blocked)).isTrue();
+        assertThat(approvalPipeline.availableCapacity()).isZero();
+        assertThat(approvalPipeline.submit(blocked)).isFalse();
+
+        release.countDown();
+        CountDownLatch done = new CountDownLatch(1);
+        while (!approvalPipeline.submit(done::countDown)) {
+            Thread.onSpinWait();
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("loan.approval.processing").timer().count()).isPositive();
+    }
+}
@@ -0,0 +1,120 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.common.BadRequestException;
+import com.clement.loanapp.loanApplication.BulkApplyProperties;
+import com.clement.loanapp.loanApplication.PortfolioProperties;
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantLoanRequest;
+import com.clement.loanapp.loanApplication.domain.dto.BulkApplyResponse;
+import com.clement.loanapp.loanApplication.domain.dto.BulkApplyResult;
+import com.clement.loanapp.loanApplication.domain.dto.BulkApplyStatus;
+import com.clement.loanapp.loanApplication.domain.event.ApproveLoanEvent;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantJdbcRepository;
+import com.clement.loanapp.loanApplication.domain.model.PortfolioSummaryJdbcRepository;
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityEngine;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkApplicationService Tests")
+class BulkApplicationServiceTest {
+
+    @Mock
+    private ApplicantJdbcRepository applicantJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PortfolioSummaryJdbcRepository portfolioSummaryJdbcRepository;
+
+    private BulkApplicationService bulkApplicationService;
+
+    @BeforeEach
+    void setUp() {
+        bulkApplicationService = new BulkApplicationService(
+                applicantJdbcRepository,
+                eventPublisher,
+                new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new EligibilityEngine(),
+                new BulkApplyProperties(2, 10),
+                new PortfolioStatistics(portfolioSummaryJdbcRepository, new PortfolioProperties(4))
+        );
+    }
+
+    private ApplicantLoanRequest request(String email, String monthlyIncome) {
+        return new ApplicantLoanRequest("John", "Doe", email, new BigDecimal("10000.00"), 12,
+                new BigDecimal(monthlyIncome), new BigDecimal("1000.00"));
+    }
+
+    @Test
+    @DisplayName("Should report a result for every row in input order")
+    void shouldReportEveryRowInOrder() {
+        // Arrange
+        List<ApplicantLoanRequest> requests = List.of(
+                request("a@example.com", "5000.00"),
+                request("b@example.com", "2000.00"),
+                request("a@example.com", "5000.00"),
+                request("not-an-email", "5000.00"),
+                request("c@example.com", "5000.00"),
+                request("d@example.com", "5000.00")
+        );
+        when(applicantJdbcRepository.findExistingEmails(anyCollection()))
+                .thenReturn(Set.of("c@example.com"))
+                .thenReturn(Set.of());
+        when(applicantJdbcRepository.insertAll(anyList()))
+                .thenReturn(new int[]{1})
+                .thenReturn(new int[]{0});
+
+        // Act
+        BulkApplyResponse response = bulkApplicationService.createLoansForApplications(requests);
+
+        // Assert
+        assertThat(response.received()).isEqualTo(6);
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.results()).extracting(BulkApplyResult::status).containsExactly(
+                BulkApplyStatus.CREATED,
+                BulkApplyStatus.REJECTED,
+                BulkApplyStatus.DUPLICATE,
+                BulkApplyStatus.INVALID,
+                BulkApplyStatus.DUPLICATE,
+                BulkApplyStatus.DUPLICATE
+        );
+        assertThat(response.results()).extracting(BulkApplyResult::index).containsExactly(0, 1, 2, 3, 4, 5);
+        verify(eventPublisher, times(1)).publishEvent(any(ApproveLoanEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject requests above the configured item limit")
+    void shouldRejectOversizedRequests() {
+        List<ApplicantLoanRequest> requests = Collections.nCopies(11, request("a@example.com", "5000.00"));
+
+        assertThatThrownBy(() -> bulkApplicationService.createLoansForApplications(requests))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,232 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.AccrualProperties;
+import com.clement.loanapp.loanApplication.PortfolioProperties;
+import com.clement.loanapp.loanApplication.RepaymentProperties;
+import com.clement.loanapp.loanApplication.domain.model.LoanAccrualJdbcRepository;
+import com.clement.loanapp.loanApplication.domain.model.LoanAccrualJdbcRepository.LoanKeyRange;
+import com.clement.loanapp.loanApplication.domain.model.OpenLoanBalances;
+import com.clement.loanapp.loanApplication.domain.model.PortfolioSummaryJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoanAccrualJob Tests")
+class LoanAccrualJobTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 3, 1);
+
+    @Mock
+    private LoanAccrualJdbcRepository loanAccrualJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PortfolioSummaryJdbcRepository portfolioSummaryJdbcRepository;
+
+    // 36.5% a year accrues exactly 0.1% a day
+    private LoanAccrualJob job(int annualRateBasisPoints) {
+        return new LoanAccrualJob(
+                loanAccrualJdbcRepository,
+                new TransactionTemplate(transactionManager),
+                new PortfolioStatistics(portfolioSummaryJdbcRepository, new PortfolioProperties(4)),
+                new AccrualProperties(10, 2, 2, annualRateBasisPoints),
+                new RepaymentProperties(0)
+        );
+    }
+
+    private static OpenLoanBalances balances(long... balances) {
+        OpenLoanBalances open = new OpenLoanBalances(1);
+        for (int i = 0; i < balances.length; i++) {
+            open.add(100 + i, 3, balances[i]);
+        }
+        return open;
+    }
+
+    @Test
+    @DisplayName("Should accrue every chunk of the loan key range once with one update per chunk")
+    void shouldAccrueEveryChunk() {
+        // Arrange
+        when(loanAccrualJdbcRepository.findLoanKeyRange()).thenReturn(new LoanKeyRange(1, 25));
+        when(loanAccrualJdbcRepository.findCheckpoints(RUN_DATE)).thenReturn(Map.of());
+        when(loanAccrualJdbcRepository.claimChunk(eq(RUN_DATE), anyLong(), anyLong())).thenReturn(true);
+        when(loanAccrualJdbcRepository.findOpenBalances(anyLong(), anyLong()))
+                .thenAnswer(invocation -> balances(1_000_000, 2_000_000));
+        when(loanAccrualJdbcRepository.updateBalances(any())).thenReturn(2);
+
+        // Act
+        LoanAccrualJob.Result result = job(3650).run(RUN_DATE);
+
+        // Assert
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.failed()).isZero();
+        assertThat(result.loans()).isEqualTo(6);
+        assertThat(result.interest()).isEqualByComparingTo("90.00");
+        verify(loanAccrualJdbcRepository).findOpenBalances(1, 11);
+        verify(loanAccrualJdbcRepository).findOpenBalances(11, 21);
+        verify(loanAccrualJdbcRepository).findOpenBalances(21, 31);
+
+        ArgumentCaptor<OpenLoanBalances> written = ArgumentCaptor.forClass(OpenLoanBalances.class);
+        verify(loanAccrualJdbcRepository, times(3)).updateBalances(written.capture());
+        assertThat(written.getValue().balance(0)).isEqualTo(1_001_000);
+        assertThat(written.getValue().balance(1)).isEqualTo(2_002_000);
+        verify(loanAccrualJdbcRepository).completeChunk(RUN_DATE, 11, 2, new BigDecimal("30.00"));
+    }
+
+    @Test
+    @DisplayName("Should resume on the checkpointed chunk grid and skip finished chunks")
+    void shouldResumeFromCheckpoints() {
+        // Arrange
+        when(loanAccrualJdbcRepository.findLoanKeyRange()).thenReturn(new LoanKeyRange(3, 25));
+        when(loanAccrualJdbcRepository.findCheckpoints(RUN_DATE)).thenReturn(Map.of(11L, 21L));
+        when(loanAccrualJdbcRepository.claimChunk(eq(RUN_DATE), anyLong(), anyLong())).thenReturn(true);
+        when(loanAccrualJdbcRepository.findOpenBalances(anyLong(), anyLong())).thenAnswer(invocation -> balances());
+
+        // Act
+        LoanAccrualJob.Result result = job(3650).run(RUN_DATE);
+
+        // Assert
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.skipped()).isEqualTo(1);
+        verify(loanAccrualJdbcRepository).findOpenBalances(1, 11);
+        verify(loanAccrualJdbcRepository).findOpenBalances(21, 31);
+        verify(loanAccrualJdbcRepository, never()).findOpenBalances(11, 21);
+    }
+
+    @Test
+    @DisplayName("Should skip a chunk another worker already checkpointed")
+    void shouldSkipChunkClaimedElsewhere() {
+        // Arrange
+        when(loanAccrualJdbcRepository.findLoanKeyRange()).thenReturn(new LoanKeyRange(1, 5));
+        when(loanAccrualJdbcRepository.findCheckpoints(RUN_DATE)).thenReturn(Map.of());
+        when(loanAccrualJdbcRepository.claimChunk(RUN_DATE, 1, 11)).thenReturn(false);
+
+        // Act
+        LoanAccrualJob.Result result = job(3650).run(RUN_DATE);
+
+        // Assert
+        assertThat(result.skipped()).isEqualTo(1);
+        verify(loanAccrualJdbcRepository, never()).findOpenBalances(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should leave a chunk unfinished when applicants keep changing through every retry")
+    void shouldFailChunkOnConcurrentChange() {
+        // Arrange
+        when(loanAccrualJdbcRepository.findLoanKeyRange()).thenReturn(new LoanKeyRange(1, 5));
+        when(loanAccrualJdbcRepository.findCheckpoints(RUN_DATE)).thenReturn(Map.of());
+        when(loanAccrualJdbcRepository.claimChunk(RUN_DATE, 1, 11)).thenReturn(true);
+        when(loanAccrualJdbcRepository.findOpenBalances(1, 11)).thenReturn(balances(1_000_000, 2_000_000));
+        when(loanAccrualJdbcRepository.updateBalances(any())).thenReturn(1);
+
+        // Act
+        LoanAccrualJob.Result result = job(3650).run(RUN_DATE);
+
+        // Assert
+        assertThat(result.failed()).isEqualTo(1);
+        verify(loanAccrualJdbcRepository, never()).completeChunk(any(), anyLong(), anyInt(), any());
+        verify(loanAccrualJdbcRepository, times(3)).findOpenBalances(1, 11);
+        verify(transactionManager, times(3)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed chunk within the run, reading its range again")
+    void shouldRetryFailedChunk() {
+        // Arrange
+        when(loanAccrualJdbcRepository.findLoanKeyRange()).thenReturn(new LoanKeyRange(1, 15));
+        when(loanAccrualJdbcRepository.findCheckpoints(RUN_DATE)).thenReturn(Map.of());
+        when(loanAccrualJdbcRepository.claimChunk(eq(RUN_DATE), anyLong(), anyLong())).thenReturn(true);
+        when(loanAccrualJdbcRepository.findOpenBalances(anyLong(), anyLong()))
+                .thenAnswer(invocation -> balances(1_000_000, 2_000_000));
+        // whichever chunk writes first loses a row to a concurrent update; its retry succeeds
+        when(loanAccrualJdbcRepository.updateBalances(any())).thenReturn(1, 2, 2);
+
+        // Act
+        LoanAccrualJob.Result result = job(3650).run(RUN_DATE);
+
+        // Assert
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(result.failed()).isZero();
+        assertThat(result.loans()).isEqualTo(4);
+        verify(loanAccrualJdbcRepository, times(3)).findOpenBalances(anyLong(), anyLong());
+        verify(loanAccrualJdbcRepository).completeChunk(RUN_DATE, 1, 2, new BigDecimal("30.00"));
+        verify(loanAccrualJdbcRepository).completeChunk(RUN_DATE, 11, 2, new BigDecimal("30.00"));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should return without reading chunks or writing checkpoints at a zero rate")
+    void shouldDoNothingAtZeroRate() {
+        // Act
+        LoanAccrualJob.Result result = job(0).run(RUN_DATE);
+
+        // Assert
+        assertThat(result.chunks()).isZero();
+        assertThat(result.interest()).isEqualByComparingTo(BigDecimal.ZERO);
+        verifyNoInteractions(loanAccrualJdbcRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should checkpoint without writing balances when no interest accrues")
+    void shouldNotWriteBalancesWhenInterestRoundsToZero() {
+        // Arrange
+        when(loanAccrualJdbcRepository.findLoanKeyRange()).thenReturn(new LoanKeyRange(1, 5));
+        when(loanAccrualJdbcRepository.findCheckpoints(RUN_DATE)).thenReturn(Map.of());
+        when(loanAccrualJdbcRepository.claimChunk(RUN_DATE, 1, 11)).thenReturn(true);
+        when(loanAccrualJdbcRepository.findOpenBalances(1, 11)).thenReturn(balances(100));
+
+        // Act
+        LoanAccrualJob.Result result = job(3650).run(RUN_DATE);
+
+        // Assert
+        assertThat(result.interest()).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(loanAccrualJdbcRepository, never()).updateBalances(any());
+        verify(loanAccrualJdbcRepository).completeChunk(RUN_DATE, 1, 1, new BigDecimal("0.00"));
+    }
+
+    @Test
+    @DisplayName("Should refuse to start when repayment schedules already charge interest")
+    void shouldRejectScheduledAndAccruedInterestTogether() {
+        // Act & Assert
+        assertThatThrownBy(() -> new LoanAccrualJob(
+                loanAccrualJdbcRepository,
+                new TransactionTemplate(transactionManager),
+                new PortfolioStatistics(portfolioSummaryJdbcRepository, new PortfolioProperties(4)),
+                new AccrualProperties(10, 2, 2, 1500),
+                new RepaymentProperties(1500)
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("interest twice");
+    }
+
+    @Test
+    @DisplayName("Should round daily interest half-up to the cent")
+    void shouldRoundDailyInterest() {
+        // Act & Assert
+        assertThat(job(1500).dailyInterest(10_000_00)).isEqualTo(411);
+        assertThat(job(1500).dailyInterest(0)).isZero();
+    }
+}
@@ -1,15 +1,31 @@
 package com.clement.loanapp.loanApplication.service;
 
+import com.clement.loanapp.common.BadRequestException;
 import com.clement.loanapp.common.DuplicateException;
 import com.clement.loanapp.common.NotFoundException;
+import com.clement.loanapp.loanApplication.ApplicantCacheProperties;
+import com.clement.loanapp.loanApplication.PagingProperties;
+import com.clement.loanapp.loanApplication.PortfolioProperties;
+import com.clement.loanapp.loanApplication.RepaymentProperties;
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantCursor;
 import com.clement.loanapp.loanApplication.domain.dto.ApplicantLoanRequest;
 import com.clement.loanapp.loanApplication.domain.dto.ApplicantResponse;
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantSnapshot;
 import com.clement.loanapp.loanApplication.domain.dto.ApprovalRequest;
+import com.clement.loanapp.loanApplication.domain.dto.CursorPage;
 import com.clement.loanapp.loanApplication.domain.dto.GenericMessage;
+import com.clement.loanapp.loanApplication.domain.dto.PortfolioStatsResponse;
 import com.clement.loanapp.loanApplication.domain.event.ApproveLoanEvent;
 import com.clement.loanapp.loanApplication.domain.model.Applicant;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantArchiveJdbcRepository;
+import com.clement.loanapp.loanApplication.domain.model.ApplicantJdbcRepository;
 import com.clement.loanapp.loanApplication.domain.model.ApplicantRepository;
 import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+import com.clement.loanapp.loanApplication.domain.model.PortfolioSummaryJdbcRepository;
+import com.clement.loanapp.loanApplication.domain.model.RepaymentInstallmentJdbcRepository;
+import com.clement.loanapp.loanApplication.service.eligibility.EligibilityEngine;
+import com.clement.loanapp.loanApplication.service.repayment.RepaymentScheduleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,22 +34,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -44,9 +69,38 @@ class LoanApplicationServiceTest {
     @Mock
     private ApplicantRepository applicantRepository;
 
+    @Mock
+    private ApplicantJdbcRepository applicantJdbcRepository;
+
+    @Mock
+    private ApplicantArchiveJdbcRepository applicantArchiveJdbcRepository;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Spy
+    private RepaymentScheduleService repaymentScheduleService =
+            new RepaymentScheduleService(mock(RepaymentInstallmentJdbcRepository.class), new RepaymentProperties(0));
+
+    @Spy
+    private EligibilityEngine eligibilityEngine = new EligibilityEngine();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private LoanMetrics loanMetrics = new LoanMetrics(meterRegistry);
+
+    @Spy
+    private ApplicantCache applicantCache =
+            new ApplicantCache(new ApplicantCacheProperties(100, Duration.ofMinutes(5)), meterRegistry);
+
+    @Spy
+    private PagingProperties pagingProperties = new PagingProperties(500);
+
+    @Spy
+    private PortfolioStatistics portfolioStatistics =
+            new PortfolioStatistics(mock(PortfolioSummaryJdbcRepository.class), new PortfolioProperties(4));
+
     @InjectMocks
     private LoanApplicationService loanApplicationService;
 
@@ -87,8 +141,7 @@ class LoanApplicationServiceTest {
         @DisplayName("Should create loan application successfully when all validations pass")
         void shouldCreateLoanApplicationSuccessfully() {
             // Arrange
-            when(applicantRepository.existsByEmail(anyString())).thenReturn(false);
-            when(applicantRepository.save(any(Applicant.class))).thenReturn(testApplicant);
+            when(applicantJdbcRepository.insertIfAbsent(any(Applicant.class))).thenReturn(true);
 
             // Act
             GenericMessage result = loanApplicationService.createLoanForApplication(validRequest);
@@ -98,9 +151,10 @@ class LoanApplicationServiceTest {
             assertThat(result.message()).isEqualTo("Application successfully");
 
             ArgumentCaptor<Applicant> applicantCaptor = ArgumentCaptor.forClass(Applicant.class);
-            verify(applicantRepository).save(applicantCaptor.capture());
+            verify(applicantJdbcRepository).insertIfAbsent(applicantCaptor.capture());
             Applicant savedApplicant = applicantCaptor.getValue();
 
+            assertThat(savedApplicant.getId()).isNotNull();
             assertThat(savedApplicant.getFirstName()).isEqualTo("John");
             assertThat(savedApplicant.getLastName()).isEqualTo("Doe");
             assertThat(savedApplicant.getEmail()).isEqualTo("john.doe@example.com");
@@ -113,21 +167,23 @@ class LoanApplicationServiceTest {
 
             assertThat(publishedEvent.applicantEmail()).isEqualTo("john.doe@example.com");
             assertThat(publishedEvent.amountRequested()).isEqualByComparingTo(new BigDecimal("10000.00"));
+            assertThat(applicationCount("created")).isEqualTo(1);
+            assertThat(meterRegistry.get("loan.eligibility.evaluation").timer().count()).isEqualTo(1);
         }
 
         @Test
         @DisplayName("Should throw DuplicateException when email already exists")
         void shouldThrowDuplicateExceptionWhenEmailExists() {
             // Arrange
-            when(applicantRepository.existsByEmail(anyString())).thenReturn(true);
+            when(applicantJdbcRepository.insertIfAbsent(any(Applicant.class))).thenReturn(false);
 
             // Act & Assert
             assertThatThrownBy(() -> loanApplicationService.createLoanForApplication(validRequest))
                     .isInstanceOf(DuplicateException.class)
                     .hasMessage("You are an already registered applicant");
 
-            verify(applicantRepository, never()).save(any(Applicant.class));
             verify(eventPublisher, never()).publishEvent(any(ApproveLoanEvent.class));
+            assertThat(applicationCount("duplicate")).isEqualTo(1);
         }
 
         @Test
@@ -143,15 +199,15 @@ class LoanApplicationServiceTest {
                     new BigDecimal("2000.00"),  // monthlyIncome (insufficient)
                     new BigDecimal("1000.00")  // monthlyPayment
             );
-            when(applicantRepository.existsByEmail(anyString())).thenReturn(false);
-
             // Act & Assert
             assertThatThrownBy(() -> loanApplicationService.createLoanForApplication(insufficientIncomeRequest))
                     .isInstanceOf(UnsupportedOperationException.class)
                     .hasMessage("To qualify for a loan, your monthly income must be three(3) times more than your monthly installments");
 
-            verify(applicantRepository, never()).save(any(Applicant.class));
+            verify(applicantJdbcRepository, never()).insertIfAbsent(any(Applicant.class));
             verify(eventPublisher, never()).publishEvent(any(ApproveLoanEvent.class));
+            assertThat(applicationCount("rejected")).isEqualTo(1);
+            assertThat(applicationCount("created")).isZero();
         }
 
         @Test
@@ -167,17 +223,47 @@ class LoanApplicationServiceTest {
                     new BigDecimal("3001.00"),  // monthlyIncome (just over 3x monthly payment)
                     new BigDecimal("1000.00")  // monthlyPayment
             );
-            when(applicantRepository.existsByEmail(anyString())).thenReturn(false);
-            when(applicantRepository.save(any(Applicant.class))).thenReturn(testApplicant);
+            when(applicantJdbcRepository.insertIfAbsent(any(Applicant.class))).thenReturn(true);
 
             // Act
             GenericMessage result = loanApplicationService.createLoanForApplication(exactThresholdRequest);
 
             // Assert
             assertThat(result).isNotNull();
-            verify(applicantRepository).save(any(Applicant.class));
+            verify(applicantJdbcRepository).insertIfAbsent(any(Applicant.class));
             verify(eventPublisher).publishEvent(any(ApproveLoanEvent.class));
         }
+
+        @Test
+        @DisplayName("Should register the applicant with a single insert and no existence query")
+        void shouldCreateWithSingleStatement() {
+            // Arrange
+            when(applicantJdbcRepository.insertIfAbsent(any(Applicant.class))).thenReturn(true);
+
+            // Act
+            loanApplicationService.createLoanForApplication(validRequest);
+
+            // Assert
+            verify(applicantJdbcRepository, times(1)).insertIfAbsent(any(Applicant.class));
+            verifyNoInteractions(applicantRepository);
+        }
+
+        @Test
+        @DisplayName("Should count a created application as DRAFT and a duplicate not at all")
+        void shouldCountCreatedApplicationsInPortfolio() {
+            // Arrange
+            when(applicantJdbcRepository.insertIfAbsent(any(Applicant.class))).thenReturn(true, false);
+
+            // Act
+            loanApplicationService.createLoanForApplication(validRequest);
+            assertThatThrownBy(() -> loanApplicationService.createLoanForApplication(validRequest))
+                    .isInstanceOf(DuplicateException.class);
+
+            // Assert
+            PortfolioStatsResponse stats = portfolioStatistics.snapshot();
+            assertThat(stats.applicantsByStatus()).containsEntry(LoanStatus.DRAFT, 1L);
+            assertThat(stats.totalApplicants()).isEqualTo(1);
+        }
     }
 
     @Nested
@@ -188,32 +274,16 @@ class LoanApplicationServiceTest {
         @DisplayName("Should return paginated list of applicants")
         void shouldReturnPaginatedApplicants() {
             // Arrange
-            Applicant applicant1 = Applicant.builder()
-                    .firstName("John")
-                    .lastName("Doe")
-                    .email("john@example.com")
-                    .monthlyIncome(new BigDecimal("5000"))
-                    .requestLoanAmount(new BigDecimal("10000"))
-                    .tenor(12)
-                    .status(LoanStatus.APPROVED)
-                    .balance(new BigDecimal("10000"))
-                    .build();
-
-            Applicant applicant2 = Applicant.builder()
-                    .firstName("Jane")
-                    .lastName("Smith")
-                    .email("jane@example.com")
-                    .monthlyIncome(new BigDecimal("6000"))
-                    .requestLoanAmount(new BigDecimal("15000"))
-                    .tenor(6)
-                    .status(LoanStatus.PENDING)
-                    .balance(new BigDecimal("15000"))
-                    .build();
+            ApplicantResponse applicant1 = new ApplicantResponse("John Doe", new BigDecimal("5000"), 12,
+                    "john@example.com", new BigDecimal("10000"), LoanStatus.APPROVED, new BigDecimal("10000"));
+            ApplicantResponse applicant2 = new ApplicantResponse("Jane Smith", new BigDecimal("6000"), 6,
+                    "jane@example.com", new BigDecimal("15000"), LoanStatus.PENDING, new BigDecimal("15000"));
 
             PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("createdAt").ascending());
-            Page<Applicant> applicantPage = new PageImpl<>(Arrays.asList(applicant1, applicant2), pageRequest, 2);
+            Page<ApplicantResponse> responsePage =
+                    new PageImpl<>(Arrays.asList(applicant1, applicant2), pageRequest, 2);
 
-            when(applicantRepository.findAll(any(PageRequest.class))).thenReturn(applicantPage);
+            when(applicantRepository.findAllResponses(pageRequest)).thenReturn(responsePage);
 
             // Act
             Page<ApplicantResponse> result = loanApplicationService.getAllApplicants(0, 10);
@@ -233,7 +303,7 @@ class LoanApplicationServiceTest {
             assertThat(response2.email()).isEqualTo("jane@example.com");
             assertThat(response2.loanStatus()).isEqualTo(LoanStatus.PENDING);
 
-            verify(applicantRepository).findAll(any(PageRequest.class));
+            verify(applicantRepository, never()).findAll(any(PageRequest.class));
         }
 
         @Test
@@ -241,9 +311,9 @@ class LoanApplicationServiceTest {
         void shouldReturnEmptyPageWhenNoApplicants() {
             // Arrange
             PageRequest pageRequest = PageRequest.of(0, 10, Sort.by("createdAt").ascending());
-            Page<Applicant> emptyPage = new PageImpl<>(java.util.Collections.emptyList(), pageRequest, 0);
+            Page<ApplicantResponse> emptyPage = new PageImpl<>(java.util.Collections.emptyList(), pageRequest, 0);
 
-            when(applicantRepository.findAll(any(PageRequest.class))).thenReturn(emptyPage);
+            when(applicantRepository.findAllResponses(pageRequest)).thenReturn(emptyPage);
 
             // Act
             Page<ApplicantResponse> result = loanApplicationService.getAllApplicants(0, 10);
@@ -253,6 +323,98 @@ class LoanApplicationServiceTest {
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
         }
+
+        @Test
+        @DisplayName("Should reject a page size above the configured maximum before querying")
+        void shouldRejectOversizedPage() {
+            // Act & Assert
+            assertThatThrownBy(() -> loanApplicationService.getAllApplicants(0, 1_000_000))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("size must be between 1 and 500");
+
+            verifyNoInteractions(applicantRepository);
+        }
+
+        @Test
+        @DisplayName("Should serve a slice without the count query")
+        void shouldReturnSliceWithoutCount() {
+            // Arrange
+            PageRequest pageRequest = PageRequest.of(0, 1, Sort.by("createdAt").ascending());
+            ApplicantResponse response = new ApplicantResponse("John Doe", new BigDecimal("5000.00"), 12,
+                    "john.doe@example.com", new BigDecimal("10000.00"), LoanStatus.DRAFT, null);
+            when(applicantRepository.findResponseSlice(pageRequest))
+                    .thenReturn(new SliceImpl<>(List.of(response), pageRequest, true));
+
+            // Act
+            Slice<ApplicantResponse> result = loanApplicationService.getApplicantSlice(0, 1);
+
+            // Assert
+            assertThat(result.getContent()).extracting(ApplicantResponse::email).containsExactly("john.doe@example.com");
+            assertThat(result.hasNext()).isTrue();
+            verify(applicantRepository, never()).findAllResponses(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getApplicantsByCursor Tests")
+    class GetApplicantsByCursorTests {
+
+        private Applicant applicantAt(long pk, Instant createdAt) {
+            return Applicant.builder()
+                    .pk(pk)
+                    .firstName("John")
+                    .lastName("Doe")
+                    .email("john" + pk + "@example.com")
+                    .createdAt(createdAt)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should return next cursor pointing at the last row when more rows exist")
+        void shouldReturnNextCursorWhenMoreRowsExist() {
+            // Arrange
+            Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+            List<Applicant> rows = List.of(
+                    applicantAt(1, createdAt),
+                    applicantAt(2, createdAt),
+                    applicantAt(3, createdAt.plusSeconds(1))
+            );
+            when(applicantRepository.findFirstByKeyset(Limit.of(3))).thenReturn(rows);
+
+            // Act
+            CursorPage<ApplicantResponse> result = loanApplicationService.getApplicantsByCursor(null, 2);
+
+            // Assert
+            assertThat(result.content()).hasSize(2);
+            assertThat(result.nextCursor()).isNotNull();
+            assertThat(ApplicantCursor.decode(result.nextCursor())).isEqualTo(new ApplicantCursor(createdAt, 2));
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor position and stop on the last page")
+        void shouldContinueAfterCursorPosition() {
+            // Arrange
+            Instant createdAt = Instant.parse("2025-01-01T10:00:00Z");
+            String cursor = new ApplicantCursor(createdAt, 2).encode();
+            when(applicantRepository.findNextByKeyset(createdAt, 2, Limit.of(3)))
+                    .thenReturn(List.of(applicantAt(3, createdAt.plusSeconds(1))));
+
+            // Act
+            CursorPage<ApplicantResponse> result = loanApplicationService.getApplicantsByCursor(cursor, 2);
+
+            // Assert
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.nextCursor()).isNull();
+            verify(applicantRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThatThrownBy(() -> loanApplicationService.getApplicantsByCursor("not-a-cursor", 10))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessage("Invalid cursor");
+        }
     }
 
     @Nested
@@ -286,6 +448,29 @@ class LoanApplicationServiceTest {
             assertThat(savedApplicant.getBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
             assertThat(savedApplicant.getLoan()).isNotNull();
             assertThat(savedApplicant.getCreditCheck()).isTrue();
+            verify(repaymentScheduleService).createSchedules(List.of(savedApplicant));
+        }
+
+        @Test
+        @DisplayName("Should approve a legacy applicant without a status and count it out of DRAFT")
+        void shouldApproveApplicantWithNullStatus() {
+            // Arrange
+            UUID applicantId = UUID.randomUUID();
+            testApplicant.setId(applicantId);
+            testApplicant.setStatus(null);
+
+            when(applicantRepository.findApplicantById(applicantId)).thenReturn(Optional.of(testApplicant));
+            when(applicantRepository.save(any(Applicant.class))).thenReturn(testApplicant);
+
+            // Act
+            LoanStatus result = loanApplicationService.approveLoan(
+                    new ApprovalRequest(LoanStatus.APPROVED), applicantId.toString());
+
+            // Assert
+            assertThat(result).isEqualTo(LoanStatus.APPROVED);
+            assertThat(portfolioStatistics.snapshot().applicantsByStatus())
+                    .containsEntry(LoanStatus.DRAFT, -1L)
+                    .containsEntry(LoanStatus.APPROVED, 1L);
         }
 
         @Test
@@ -323,6 +508,7 @@ class LoanApplicationServiceTest {
 
             assertThat(savedApplicant.getStatus()).isEqualTo(LoanStatus.REJECTED);
             assertThat(savedApplicant.getCreditCheck()).isFalse();
+            assertThat(meterRegistry.get("loan.approvals").tag("outcome", "rejected").counter().count()).isEqualTo(1);
             assertThat(savedApplicant.getLoan()).isNull();
         }
 
@@ -346,6 +532,40 @@ class LoanApplicationServiceTest {
             verify(applicantRepository, never()).save(any(Applicant.class));
         }
 
+        @Test
+        @DisplayName("Should answer from the cache without a query when the cached snapshot is APPROVED")
+        void shouldShortCircuitOnCachedApproval() {
+            // Arrange
+            UUID applicantId = UUID.randomUUID();
+            applicantCache.put(new ApplicantSnapshot(applicantId, "john.doe@example.com", LoanStatus.APPROVED, 2));
+
+            // Act
+            LoanStatus result = loanApplicationService.approveLoan(
+                    new ApprovalRequest(LoanStatus.APPROVED), applicantId.toString());
+
+            // Assert
+            assertThat(result).isEqualTo(LoanStatus.APPROVED);
+            verifyNoInteractions(applicantRepository);
+        }
+
+        @Test
+        @DisplayName("Should evict the cached snapshot after saving a decision")
+        void shouldEvictCachedSnapshotOnSave() {
+            // Arrange
+            UUID applicantId = UUID.randomUUID();
+            testApplicant.setId(applicantId);
+            applicantCache.put(ApplicantSnapshot.of(testApplicant));
+            when(applicantRepository.findApplicantById(applicantId)).thenReturn(Optional.of(testApplicant));
+
+            // Act
+            loanApplicationService.approveLoan(new ApprovalRequest(LoanStatus.APPROVED), applicantId.toString());
+
+            // Assert
+            verify(applicantRepository).save(testApplicant);
+            assertThat(applicantCache.getById(applicantId)).isNull();
+            assertThat(applicantCache.getByEmail("john.doe@example.com")).isNull();
+        }
+
         @Test
         @DisplayName("Should throw NotFoundException when applicant does not exist")
         void shouldThrowNotFoundExceptionWhenApplicantDoesNotExist() {
@@ -362,6 +582,109 @@ class LoanApplicationServiceTest {
 
             verify(applicantRepository, never()).save(any(Applicant.class));
         }
+
+        @Test
+        @DisplayName("Should return the status of an archived applicant without deciding it again")
+        void shouldReturnArchivedStatus() {
+            // Arrange
+            UUID applicantId = UUID.randomUUID();
+            when(applicantRepository.findApplicantById(applicantId)).thenReturn(Optional.empty());
+            when(applicantArchiveJdbcRepository.findStatusById(applicantId)).thenReturn(Optional.of(LoanStatus.REJECTED));
+
+            // Act
+            LoanStatus result = loanApplicationService.approveLoan(
+                    new ApprovalRequest(LoanStatus.APPROVED), applicantId.toString());
+
+            // Assert
+            assertThat(result).isEqualTo(LoanStatus.REJECTED);
+            verify(applicantRepository, never()).save(any(Applicant.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getApplicantStatus Tests")
+    class GetApplicantStatusTests {
+
+        @Test
+        @DisplayName("Should load and cache the snapshot on a miss")
+        void shouldLoadAndCacheOnMiss() {
+            // Arrange
+            UUID applicantId = UUID.randomUUID();
+            testApplicant.setId(applicantId);
+            when(applicantRepository.findApplicantById(applicantId)).thenReturn(Optional.of(testApplicant));
+
+            // Act
+            LoanStatus result = loanApplicationService.getApplicantStatus(applicantId.toString());
+
+            // Assert
+            assertThat(result).isEqualTo(LoanStatus.DRAFT);
+            assertThat(applicantCache.getById(applicantId)).isEqualTo(ApplicantSnapshot.of(testApplicant));
+        }
+
+        @Test
+        @DisplayName("Should serve a cached snapshot whose version still matches the row")
+        void shouldServeCachedSnapshotWhenVersionMatches() {
+            // Arrange
+            UUID applicantId = UUID.randomUUID();
+            applicantCache.put(new ApplicantSnapshot(applicantId, "john.doe@example.com", LoanStatus.PENDING, 3));
+            when(applicantRepository.findVersionById(applicantId)).thenReturn(Optional.of(3));
+
+            // Act
+            LoanStatus result = loanApplicationService.getApplicantStatus(applicantId.toString());
+
+            // Assert
+            assertThat(result).isEqualTo(LoanStatus.PENDING);
+            verify(applicantRepository, never()).findApplicantById(any());
+        }
+
+        @Test
+        @DisplayName("Should reload when another node has changed the row")
+        void shouldReloadWhenVersionChanged() {
+            // Arrange
+            UUID applicantId = UUID.randomUUID();
+            testApplicant.setId(applicantId);
+            testApplicant.setStatus(LoanStatus.REJECTED);
+            testApplicant.setVersion(4);
+            applicantCache.put(new ApplicantSnapshot(applicantId, "john.doe@example.com", LoanStatus.PENDING, 3));
+            when(applicantRepository.findVersionById(applicantId)).thenReturn(Optional.of(4));
+            when(applicantRepository.findApplicantById(applicantId)).thenReturn(Optional.of(testApplicant));
+
+            // Act
+            LoanStatus result = loanApplicationService.getApplicantStatus(applicantId.toString());
+
+            // Assert
+            assertThat(result).isEqualTo(LoanStatus.REJECTED);
+            assertThat(applicantCache.getById(applicantId).version()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should fall back to the archive when the applicant has been archived")
+        void shouldFallBackToArchive() {
+            // Arrange
+            UUID applicantId = UUID.randomUUID();
+            when(applicantRepository.findApplicantById(applicantId)).thenReturn(Optional.empty());
+            when(applicantArchiveJdbcRepository.findStatusById(applicantId)).thenReturn(Optional.of(LoanStatus.APPROVED));
+
+            // Act
+            LoanStatus result = loanApplicationService.getApplicantStatus(applicantId.toString());
+
+            // Assert
+            assertThat(result).isEqualTo(LoanStatus.APPROVED);
+        }
+
+        @Test
+        @DisplayName("Should throw NotFoundException when the applicant is neither live nor archived")
+        void shouldThrowNotFoundWhenNotArchived() {
+            // Arrange
+            UUID applicantId = UUID.randomUUID();
+            when(applicantRepository.findApplicantById(applicantId)).thenReturn(Optional.empty());
+            when(applicantArchiveJdbcRepository.findStatusById(applicantId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> loanApplicationService.getApplicantStatus(applicantId.toString()))
+                    .isInstanceOf(NotFoundException.class)
+                    .hasMessage("Applicant not found");
+        }
     }
 
     @Nested
@@ -388,6 +711,7 @@ class LoanApplicationServiceTest {
             assertThat(savedApplicant.getStatus()).isEqualTo(LoanStatus.APPROVED);
             assertThat(savedApplicant.getBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
             assertThat(savedApplicant.getLoan()).isNotNull();
+            assertThat(savedApplicant.getLoan().getId()).isNotNull();
             assertThat(savedApplicant.getLoan().getCredited()).isEqualByComparingTo(new BigDecimal("10000.00"));
             assertThat(savedApplicant.getLoan().getDueDate()).isNotNull();
             assertThat(savedApplicant.getCreditCheck()).isTrue();
@@ -428,6 +752,24 @@ class LoanApplicationServiceTest {
             assertThat(savedApplicant.getLoan()).isNull();
         }
 
+        @Test
+        @DisplayName("Should not decide a REJECTED applicant again when the event is redelivered")
+        void shouldNotRedecideRejectedApplicant() {
+            // Arrange
+            testApplicant.setStatus(LoanStatus.REJECTED);
+            ApproveLoanEvent event = new ApproveLoanEvent("john.doe@example.com", new BigDecimal("10000.00"));
+
+            when(applicantRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(testApplicant));
+
+            // Act
+            loanApplicationService.loanApproval(event);
+
+            // Assert
+            assertThat(testApplicant.getStatus()).isEqualTo(LoanStatus.REJECTED);
+            verify(applicantRepository, never()).save(any(Applicant.class));
+            verify(eligibilityEngine, never()).isEligible(any(), any(), any(), anyInt());
+        }
+
         @Test
         @DisplayName("Should not process event when loan is already approved")
         void shouldNotProcessEventWhenAlreadyApproved() {
@@ -461,6 +803,87 @@ class LoanApplicationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("loanApprovals (Batch) Tests")
+    class LoanApprovalsBatchTests {
+
+        @Test
+        @DisplayName("Should evaluate every loaded applicant and report emails without one")
+        void shouldApproveBatchAndReportMissingEmails() {
+            // Arrange
+            Applicant ineligibleApplicant = Applicant.builder()
+                    .email("jane.doe@example.com")
+                    .monthlyIncome(new BigDecimal("2000.00"))
+                    .monthlyPayment(new BigDecimal("1000.00"))
+                    .status(LoanStatus.DRAFT)
+                    .build();
+            List<ApproveLoanEvent> events = List.of(
+                    new ApproveLoanEvent("john.doe@example.com", new BigDecimal("10000.00")),
+                    new ApproveLoanEvent("jane.doe@example.com", new BigDecimal("5000.00")),
+                    new ApproveLoanEvent("unknown@example.com", new BigDecimal("1000.00"))
+            );
+            when(applicantRepository.findAllByEmailIn(any())).thenReturn(List.of(testApplicant, ineligibleApplicant));
+
+            // Act
+            var missing = loanApplicationService.loanApprovals(events);
+
+            // Assert
+            assertThat(missing).containsExactly("unknown@example.com");
+            assertThat(testApplicant.getStatus()).isEqualTo(LoanStatus.APPROVED);
+            assertThat(testApplicant.getLoan()).isNotNull();
+            assertThat(ineligibleApplicant.getStatus()).isEqualTo(LoanStatus.REJECTED);
+            verify(repaymentScheduleService).createSchedules(List.of(testApplicant));
+            verify(applicantRepository, times(1)).findAllByEmailIn(any());
+            verify(applicantRepository, never()).findByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("Should skip applicants that were already decided when a batch is redelivered")
+        void shouldSkipDecidedApplicantsInBatch() {
+            // Arrange
+            testApplicant.setStatus(LoanStatus.REJECTED);
+            when(applicantRepository.findAllByEmailIn(any())).thenReturn(List.of(testApplicant));
+
+            // Act
+            loanApplicationService.loanApprovals(List.of(
+                    new ApproveLoanEvent("john.doe@example.com", new BigDecimal("10000.00"))));
+
+            // Assert
+            assertThat(testApplicant.getStatus()).isEqualTo(LoanStatus.REJECTED);
+            verify(applicantRepository).saveAll(List.of());
+            assertThat(portfolioStatistics.snapshot().applicantsByStatus())
+                    .containsEntry(LoanStatus.REJECTED, 0L);
+        }
+
+        @Test
+        @DisplayName("Should move approved and rejected applicants out of DRAFT in the portfolio")
+        void shouldMovePortfolioCountsOnDecision() {
+            // Arrange
+            Applicant ineligibleApplicant = Applicant.builder()
+                    .email("jane.doe@example.com")
+                    .monthlyIncome(new BigDecimal("2000.00"))
+                    .monthlyPayment(new BigDecimal("1000.00"))
+                    .status(LoanStatus.DRAFT)
+                    .build();
+            when(applicantRepository.findAllByEmailIn(any())).thenReturn(List.of(testApplicant, ineligibleApplicant));
+
+            // Act
+            loanApplicationService.loanApprovals(List.of(
+                    new ApproveLoanEvent("john.doe@example.com", new BigDecimal("10000.00")),
+                    new ApproveLoanEvent("jane.doe@example.com", new BigDecimal("5000.00"))
+            ));
+
+            // Assert
+            PortfolioStatsResponse stats = portfolioStatistics.snapshot();
+            assertThat(stats.applicantsByStatus())
+                    .containsEntry(LoanStatus.DRAFT, -2L)
+                    .containsEntry(LoanStatus.APPROVED, 1L)
+                    .containsEntry(LoanStatus.REJECTED, 1L);
+            assertThat(stats.outstandingBalance()).isEqualByComparingTo("10000.00");
+            assertThat(stats.totalCredited()).isEqualByComparingTo("10000.00");
+        }
+    }
+
     @Nested
     @DisplayName("Edge Case Tests")
     class EdgeCaseTests {
@@ -479,8 +902,6 @@ class LoanApplicationServiceTest {
                     new BigDecimal("1000.00")  // monthlyPayment
             );
 
-            when(applicantRepository.existsByEmail(anyString())).thenReturn(false);
-
             // Act & Assert
             assertThatThrownBy(() -> loanApplicationService.createLoanForApplication(requestWithNullIncome))
                     .isInstanceOf(UnsupportedOperationException.class);
@@ -500,8 +921,6 @@ class LoanApplicationServiceTest {
                     null  // null monthly payment
             );
 
-            when(applicantRepository.existsByEmail(anyString())).thenReturn(false);
-
             // Act & Assert
             assertThatThrownBy(() -> loanApplicationService.createLoanForApplication(requestWithNullPayment))
                     .isInstanceOf(UnsupportedOperationException.class);
@@ -531,11 +950,18 @@ class LoanApplicationServiceTest {
             assertThat(savedApplicant.getLoan()).isNotNull();
             assertThat(savedApplicant.getLoan().getDueDate()).isNotNull();
 
-            // Verify the due date is approximately 12 months from now
+            // the last of the tenor's monthly installments, the first due a month after approval
             Instant now = Instant.now();
             Instant dueDate = savedApplicant.getLoan().getDueDate();
             assertThat(dueDate).isAfter(now);
+            assertThat(dueDate).isEqualTo(LocalDate.now(ZoneOffset.UTC)
+                    .plusMonths(savedApplicant.getTenor())
+                    .atStartOfDay(ZoneOffset.UTC)
+                    .toInstant());
         }
     }
-}
 
+    private double applicationCount(String outcome) {
+        return meterRegistry.get("loan.applications").tag("outcome", outcome).counter().count();
+    }
+}
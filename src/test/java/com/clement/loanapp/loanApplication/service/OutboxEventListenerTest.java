@@ -0,0 +1,128 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.domain.event.ApproveLoanEvent;
+import com.clement.loanapp.loanApplication.domain.model.OutboxRepository;
+import com.clement.loanapp.loanApplication.domain.model.OutboxRepository.OutboxMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventListener Tests")
+class OutboxEventListenerTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    private OutboxEventListener outboxEventListener;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventListener = new OutboxEventListener(outboxRepository, JsonMapper.builder().build(),
+                new LoanMetrics(new SimpleMeterRegistry()));
+        transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+    }
+
+    @Test
+    @DisplayName("Should append every event of a transaction as one batch when it commits")
+    void shouldAppendOnCommit() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventListener.onApproveLoan(new ApproveLoanEvent("a@example.com", new BigDecimal("1000")));
+            outboxEventListener.onApproveLoan(new ApproveLoanEvent("b@example.com", new BigDecimal("2000")));
+            verifyNoInteractions(outboxRepository);
+        });
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxMessage>> appended = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).appendAll(appended.capture());
+        assertThat(appended.getValue())
+                .extracting(OutboxMessage::eventType)
+                .containsExactly(OutboxEventListener.APPROVE_LOAN_EVENT, OutboxEventListener.APPROVE_LOAN_EVENT);
+        assertThat(appended.getValue().get(1).payload()).contains("b@example.com");
+    }
+
+    @Test
+    @DisplayName("Should append nothing when the transaction rolls back")
+    void shouldNotAppendOnRollback() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventListener.onApproveLoan(new ApproveLoanEvent("a@example.com", new BigDecimal("1000")));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        verify(outboxRepository, never()).appendAll(any());
+    }
+
+    @Test
+    @DisplayName("Should start a fresh buffer for the next transaction")
+    void shouldNotCarryEventsAcrossTransactions() {
+        // Act
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventListener.onApproveLoan(new ApproveLoanEvent("a@example.com", new BigDecimal("1000"))));
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventListener.onApproveLoan(new ApproveLoanEvent("b@example.com", new BigDecimal("2000"))));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxMessage>> appended = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository, times(2)).appendAll(appended.capture());
+        assertThat(appended.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Should refuse events published outside a transaction")
+    void shouldRejectEventOutsideTransaction() {
+        // Act & Assert
+        assertThatThrownBy(() -> outboxEventListener.onApproveLoan(
+                new ApproveLoanEvent("a@example.com", new BigDecimal("1000"))))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(outboxRepository);
+    }
+
+    /**
+     * Runs the real synchronization callbacks without a resource behind the transaction.
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
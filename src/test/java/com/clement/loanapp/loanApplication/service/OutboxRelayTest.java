@@ -0,0 +1,161 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.ApprovalProperties;
+import com.clement.loanapp.loanApplication.OutboxProperties;
+import com.clement.loanapp.loanApplication.domain.event.ApproveLoanEvent;
+import com.clement.loanapp.loanApplication.domain.event.OutboxEvent;
+import com.clement.loanapp.loanApplication.domain.model.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private LoanApplicationService loanApplicationService;
+
+    @Mock
+    private ApprovalPipeline approvalPipeline;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxRepository, loanApplicationService, approvalPipeline,
+                new TransactionTemplate(transactionManager), objectMapper,
+                new OutboxProperties(100, LEASE, 3), new ApprovalProperties(1, 1, 10));
+        when(approvalPipeline.availableCapacity()).thenReturn(1);
+        // run approval batches on the polling thread
+        lenient().when(approvalPipeline.submit(any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        });
+    }
+
+    private OutboxEvent event(long pk, String email, int attempts) {
+        String payload = objectMapper.writeValueAsString(new ApproveLoanEvent(email, new BigDecimal("1000")));
+        return new OutboxEvent(pk, OutboxEventListener.APPROVE_LOAN_EVENT, payload, attempts);
+    }
+
+    @Test
+    @DisplayName("Should delete delivered events on the next poll, after their batch committed")
+    void shouldDeleteDeliveredEventsOnNextPoll() {
+        // Arrange
+        when(outboxRepository.claim(10, LEASE))
+                .thenReturn(List.of(event(1, "a@example.com", 1)))
+                .thenReturn(List.of());
+        when(loanApplicationService.loanApprovals(any())).thenReturn(Set.of());
+
+        // Act
+        outboxRelay.relay();
+        verify(outboxRepository, never()).deleteAll(any());
+        outboxRelay.relay();
+
+        // Assert
+        verify(outboxRepository).deleteAll(List.of(1L));
+        verify(outboxRepository, never()).recordFailure(anyLong(), anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should leave a failed event under its lease and deliver it when it is claimed again")
+    void shouldRetryFailedEventUnderLease() {
+        // Arrange
+        when(outboxRepository.claim(10, LEASE))
+                .thenReturn(List.of(event(1, "a@example.com", 1)))
+                .thenReturn(List.of(event(1, "a@example.com", 2)))
+                .thenReturn(List.of());
+        when(loanApplicationService.loanApprovals(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException("Applicant", 1L))
+                .thenReturn(Set.of());
+        doThrow(new ObjectOptimisticLockingFailureException("Applicant", 1L))
+                .when(loanApplicationService).loanApproval(any());
+
+        // Act
+        outboxRelay.relay();
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        // Assert
+        verify(outboxRepository).recordFailure(eq(1L), anyString(), eq(false));
+        verify(outboxRepository).deleteAll(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Should park an event once it fails on its last allowed attempt")
+    void shouldParkAfterMaxAttempts() {
+        // Arrange
+        when(outboxRepository.claim(10, LEASE)).thenReturn(List.of(event(1, "a@example.com", 3)));
+        when(loanApplicationService.loanApprovals(any())).thenReturn(Set.of("a@example.com"));
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        verify(outboxRepository).recordFailure(eq(1L), anyString(), eq(true));
+        verify(outboxRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    @DisplayName("Should record an undecodable event as failed without approving anything")
+    void shouldFailUnknownEventType() {
+        // Arrange
+        when(outboxRepository.claim(10, LEASE)).thenReturn(List.of(new OutboxEvent(1, "Unknown", "{}", 1)));
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        verify(outboxRepository).recordFailure(eq(1L), anyString(), eq(false));
+        verify(loanApplicationService, never()).loanApprovals(any());
+    }
+
+    @Test
+    @DisplayName("Should claim nothing while the approval pipeline is full")
+    void shouldNotClaimWithoutCapacity() {
+        // Arrange
+        when(approvalPipeline.availableCapacity()).thenReturn(0);
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        verify(outboxRepository, never()).claim(anyInt(), any());
+    }
+}
@@ -0,0 +1,136 @@
+package com.clement.loanapp.loanApplication.service;
+
+import com.clement.loanapp.loanApplication.PortfolioProperties;
+import com.clement.loanapp.loanApplication.domain.model.LoanStatus;
+import com.clement.loanapp.loanApplication.domain.model.PortfolioSummary;
+import com.clement.loanapp.loanApplication.domain.model.PortfolioSummaryJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortfolioStatistics Tests")
+class PortfolioStatisticsTest {
+
+    @Mock
+    private PortfolioSummaryJdbcRepository portfolioSummaryJdbcRepository;
+
+    private PortfolioStatistics portfolioStatistics;
+
+    @BeforeEach
+    void setUp() {
+        portfolioStatistics = new PortfolioStatistics(portfolioSummaryJdbcRepository, new PortfolioProperties(4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write a transaction's changes as one batch before commit and count them after commit")
+    void shouldWriteBeforeCommitAndCountAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        portfolioStatistics.applicantsCreated(3);
+        portfolioStatistics.statusChanged(LoanStatus.DRAFT, null, LoanStatus.APPROVED,
+                new BigDecimal("500.00"), new BigDecimal("500.00"));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        // Act & Assert
+        verify(portfolioSummaryJdbcRepository, never()).addToStripe(anyList(), anyInt());
+        assertThat(synchronizations).hasSize(1);
+
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        verify(portfolioSummaryJdbcRepository).addToStripe(eq(List.of(
+                new PortfolioSummary(LoanStatus.DRAFT, 2, BigDecimal.ZERO, BigDecimal.ZERO),
+                new PortfolioSummary(LoanStatus.APPROVED, 1, new BigDecimal("500.00"), new BigDecimal("500.00"))
+        )), anyInt());
+        assertThat(portfolioStatistics.snapshot().totalApplicants()).isZero();
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(portfolioStatistics.snapshot().applicantsByStatus())
+                .containsEntry(LoanStatus.DRAFT, 2L)
+                .containsEntry(LoanStatus.APPROVED, 1L);
+        assertThat(portfolioStatistics.snapshot().outstandingBalance()).isEqualByComparingTo("500.00");
+        assertThat(TransactionSynchronizationManager.hasResource(portfolioStatistics)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should drop the changes of a rolled back transaction")
+    void shouldDropRolledBackChanges() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        portfolioStatistics.applicantsCreated(5);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        // Act
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        verify(portfolioSummaryJdbcRepository, never()).addToStripe(anyList(), anyInt());
+        assertThat(portfolioStatistics.snapshot().totalApplicants()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reset the in-memory totals to the summary table on reconcile")
+    void shouldResetToSummaryTableOnReconcile() {
+        // Arrange
+        portfolioStatistics.applicantsCreated(7);
+        when(portfolioSummaryJdbcRepository.findTotals()).thenReturn(List.of(
+                new PortfolioSummary(LoanStatus.DRAFT, 40, BigDecimal.ZERO, BigDecimal.ZERO),
+                new PortfolioSummary(LoanStatus.APPROVED, 10, new BigDecimal("2500"), new BigDecimal("3000"))
+        ));
+
+        // Act
+        portfolioStatistics.reconcile();
+        portfolioStatistics.applicantsCreated(1);
+
+        // Assert
+        var stats = portfolioStatistics.snapshot();
+        assertThat(stats.applicantsByStatus())
+                .containsEntry(LoanStatus.DRAFT, 41L)
+                .containsEntry(LoanStatus.APPROVED, 10L)
+                .containsEntry(LoanStatus.REJECTED, 0L);
+        assertThat(stats.totalApplicants()).isEqualTo(51);
+        assertThat(stats.outstandingBalance()).isEqualByComparingTo("2500");
+        assertThat(stats.totalCredited()).isEqualByComparingTo("3000");
+        assertThat(stats.reconciledAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the in-memory totals when the summary table cannot be read")
+    void shouldKeepInMemoryTotalsWhenReconcileFails() {
+        // Arrange
+        portfolioStatistics.applicantsCreated(7);
+        when(portfolioSummaryJdbcRepository.findTotals()).thenThrow(new IllegalStateException("down"));
+
+        // Act
+        portfolioStatistics.reconcile();
+
+        // Assert
+        assertThat(portfolioStatistics.snapshot().applicantsByStatus()).containsEntry(LoanStatus.DRAFT, 7L);
+    }
+}
@@ -0,0 +1,86 @@
+package com.clement.loanapp.loanApplication.service.eligibility;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EligibilityPolicy Tests")
+class EligibilityPolicyTest {
+
+    private static final Map<String, EligibilityRuleFactory> FACTORIES = Arrays.stream(StandardEligibilityRules.values())
+            .collect(Collectors.toMap(EligibilityRuleFactory::type, Function.identity()));
+
+    private static EligibilityRuleDefinition rule(String type, Map<String, String> params) {
+        return new EligibilityRuleDefinition(type, params, null, null);
+    }
+
+    @Test
+    @DisplayName("Should keep the legacy three-times-income rule by default")
+    void shouldApplyDefaultPolicy() {
+        EligibilityPolicy policy = EligibilityEngine.defaultPolicy();
+
+        assertThat(policy.isEligible(new BigDecimal("3000.01"), new BigDecimal("1000.00"), null, 12)).isTrue();
+        assertThat(policy.isEligible(new BigDecimal("3000.00"), new BigDecimal("1000.00"), null, 12)).isFalse();
+        assertThat(policy.isEligible(null, new BigDecimal("1000.00"), null, 12)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report the first failing rule of a compiled rule set")
+    void shouldReportFirstFailingRule() {
+        EligibilityPolicy policy = EligibilityPolicy.compile(List.of(
+                rule("MAX_DEBT_TO_INCOME", Map.of("max-ratio", "0.35")),
+                rule("TENOR_RANGE", Map.of("min", "3", "max", "6")),
+                rule("AMOUNT_RANGE", Map.of("min", "500", "max", "20000"))
+        ), FACTORIES);
+
+        assertThat(policy.firstFailure(new BigDecimal("5000"), new BigDecimal("1750"), new BigDecimal("10000"), 6))
+                .isNull();
+        assertThat(policy.firstFailure(new BigDecimal("5000"), new BigDecimal("1750.01"), new BigDecimal("10000"), 6)
+                .message()).startsWith("Monthly payment must not exceed 0.35");
+        assertThat(policy.firstFailure(new BigDecimal("5000"), new BigDecimal("1000"), new BigDecimal("10000"), 12)
+                .message()).isEqualTo("Tenor must be between 3 and 6 months");
+        assertThat(policy.firstFailure(new BigDecimal("5000"), new BigDecimal("1000"), new BigDecimal("20000.01"), 6))
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evaluate nested ANY_OF groups")
+    void shouldEvaluateAnyOf() {
+        EligibilityPolicy policy = EligibilityPolicy.compile(List.of(
+                new EligibilityRuleDefinition("ANY_OF", null, "Needs high income or a short tenor", List.of(
+                        rule("MIN_INCOME_MULTIPLE", Map.of("multiple", "5")),
+                        rule("TENOR_RANGE", Map.of("max", "3"))
+                ))
+        ), FACTORIES);
+
+        assertThat(policy.isEligible(new BigDecimal("6000"), new BigDecimal("1000"), null, 12)).isTrue();
+        assertThat(policy.isEligible(new BigDecimal("4000"), new BigDecimal("1000"), null, 2)).isTrue();
+        assertThat(policy.firstFailure(new BigDecimal("4000"), new BigDecimal("1000"), null, 12).message())
+                .isEqualTo("Needs high income or a short tenor");
+    }
+
+    @Test
+    @DisplayName("Should treat amounts too large for scaled-long math as ineligible")
+    void shouldRejectUnrepresentableAmounts() {
+        EligibilityPolicy policy = EligibilityEngine.defaultPolicy();
+
+        assertThat(policy.isEligible(new BigDecimal("1e20"), new BigDecimal("1"), null, 12)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fail to compile unknown rule types")
+    void shouldRejectUnknownRuleTypes() {
+        assertThatThrownBy(() -> EligibilityPolicy.compile(List.of(rule("CREDIT_SCORE", Map.of())), FACTORIES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CREDIT_SCORE");
+    }
+}
@@ -0,0 +1,106 @@
+package com.clement.loanapp.loanApplication.service.repayment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RepaymentScheduleCalculator Tests")
+class RepaymentScheduleCalculatorTest {
+
+    private static final LocalDate FIRST_DUE = LocalDate.of(2026, 1, 31);
+
+    @Test
+    @DisplayName("Should split an interest-free loan into equal installments with the remainder last")
+    void shouldSplitInterestFreeLoan() {
+        // Act
+        RepaymentSchedule schedule = new RepaymentScheduleCalculator(0).schedule(1_000_00, 3, FIRST_DUE);
+
+        // Assert
+        assertThat(schedule.size()).isEqualTo(3);
+        assertThat(schedule.principal(0)).isEqualTo(333_33);
+        assertThat(schedule.principal(1)).isEqualTo(333_33);
+        assertThat(schedule.principal(2)).isEqualTo(333_34);
+        assertThat(schedule.interest(2)).isZero();
+        assertThat(schedule.balanceAfter(2)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should match a BigDecimal annuity schedule to the cent")
+    void shouldMatchBigDecimalAnnuity() {
+        // Arrange
+        int rateBasisPoints = 1500;
+        long principal = 10_000_00;
+        int tenor = 12;
+
+        // Act
+        RepaymentSchedule schedule = new RepaymentScheduleCalculator(rateBasisPoints).schedule(principal, tenor, FIRST_DUE);
+
+        // Assert
+        BigDecimal monthlyRate = BigDecimal.valueOf(rateBasisPoints).divide(BigDecimal.valueOf(120_000), MathContext.DECIMAL128);
+        BigDecimal balance = BigDecimal.valueOf(principal, 2);
+        BigDecimal payment = balance.multiply(monthlyRate)
+                .divide(BigDecimal.ONE.subtract(BigDecimal.ONE.add(monthlyRate).pow(-tenor, MathContext.DECIMAL128)),
+                        MathContext.DECIMAL128)
+                .setScale(2, RoundingMode.HALF_UP);
+        for (int i = 0; i < tenor; i++) {
+            BigDecimal interest = balance.multiply(monthlyRate).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal principalPart = i == tenor - 1 ? balance : payment.subtract(interest);
+            balance = balance.subtract(principalPart);
+
+            assertThat(RepaymentScheduleCalculator.fromMinorUnits(schedule.interest(i))).isEqualByComparingTo(interest);
+            assertThat(RepaymentScheduleCalculator.fromMinorUnits(schedule.principal(i))).isEqualByComparingTo(principalPart);
+            assertThat(RepaymentScheduleCalculator.fromMinorUnits(schedule.balanceAfter(i))).isEqualByComparingTo(balance);
+        }
+        assertThat(payment).isEqualByComparingTo("902.58");
+    }
+
+    @Test
+    @DisplayName("Should repay exactly the principal on every loan of a bulk schedule")
+    void shouldRepayPrincipalInBulk() {
+        // Arrange
+        long[] principals = {5_000_00, 123_456_78, 1, 0};
+        int[] tenors = {1, 12, 6, 3};
+
+        // Act
+        RepaymentSchedule schedule = new RepaymentScheduleCalculator(2400).scheduleAll(principals, tenors, FIRST_DUE);
+
+        // Assert
+        assertThat(schedule.size()).isEqualTo(22);
+        long[] repaid = new long[principals.length];
+        for (int i = 0; i < schedule.size(); i++) {
+            repaid[schedule.loanIndex(i)] += schedule.principal(i);
+            assertThat(schedule.principal(i)).isNotNegative();
+        }
+        assertThat(repaid).containsExactly(principals);
+        assertThat(schedule.installmentNumber(1)).isEqualTo(1);
+        assertThat(schedule.dueDate(12)).isEqualTo(FIRST_DUE.plusMonths(11));
+        assertThat(schedule.finalDueDate(0)).isEqualTo(FIRST_DUE);
+        assertThat(schedule.finalDueDate(1)).isEqualTo(LocalDate.of(2026, 12, 31));
+    }
+
+    @Test
+    @DisplayName("Should clamp due dates to the end of shorter months")
+    void shouldClampDueDatesToMonthEnd() {
+        // Act
+        RepaymentSchedule schedule = new RepaymentScheduleCalculator(0).schedule(300_00, 3, FIRST_DUE);
+
+        // Assert
+        assertThat(schedule.dueDate(1)).isEqualTo(LocalDate.of(2026, 2, 28));
+        assertThat(schedule.dueDate(2)).isEqualTo(LocalDate.of(2026, 3, 31));
+    }
+
+    @Test
+    @DisplayName("Should reject a tenor below one month")
+    void shouldRejectInvalidTenor() {
+        // Act & Assert
+        assertThatThrownBy(() -> new RepaymentScheduleCalculator(0).schedule(100, 0, FIRST_DUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
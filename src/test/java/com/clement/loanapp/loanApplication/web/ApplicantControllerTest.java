@@ -0,0 +1,150 @@
+package com.clement.loanapp.loanApplication.web;
+
+import com.clement.loanapp.common.BadRequestException;
+import com.clement.loanapp.loanApplication.BulkApplyProperties;
+import com.clement.loanapp.loanApplication.domain.dto.ApplicantLoanRequest;
+import com.clement.loanapp.loanApplication.service.ApplicantExportService;
+import com.clement.loanapp.loanApplication.service.BulkApplicationService;
+import com.clement.loanapp.loanApplication.service.LoanService;
+import com.clement.loanapp.loanApplication.service.PortfolioStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicantController Tests")
+class ApplicantControllerTest {
+
+    private static final String LINE = """
+            {"firstName":"Ada","lastName":"Lovelace","email":"ada@example.com","loanAmount":1000,\
+            "tenor":6,"monthlyIncome":5000,"monthlyPayment":200}
+            """;
+
+    @Mock
+    private LoanService loanService;
+
+    @Mock
+    private ApplicantExportService applicantExportService;
+
+    @Mock
+    private BulkApplicationService bulkApplicationService;
+
+    @Mock
+    private PortfolioStatistics portfolioStatistics;
+
+    private ApplicantController applicantController;
+
+    @BeforeEach
+    void setUp() {
+        applicantController = new ApplicantController(loanService, applicantExportService, bulkApplicationService,
+                portfolioStatistics, JsonMapper.builder().build(), new BulkApplyProperties(500, 3));
+    }
+
+    private static InputStream ndjson(int lines) {
+        return new ByteArrayInputStream(LINE.repeat(lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] jsonArray(int items) {
+        return ("[" + String.join(",", Collections.nCopies(items, LINE.strip())) + "]").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream counting(byte[] body, AtomicLong bytesRead) {
+        return new FilterInputStream(new ByteArrayInputStream(body)) {
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                bytesRead.addAndGet(Math.max(read, 0));
+                return read;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should pass every NDJSON line up to the limit to the bulk service")
+    void shouldReadNdjsonUpToLimit() {
+        // Act
+        applicantController.createLoansForApplicationsFromNdjson(ndjson(3));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApplicantLoanRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(bulkApplicationService).createLoansForApplications(requests.capture());
+        assertThat(requests.getValue()).hasSize(3);
+        assertThat(requests.getValue().get(0).email()).isEqualTo("ada@example.com");
+    }
+
+    @Test
+    @DisplayName("Should reject an NDJSON body past the limit without reading the rest of it")
+    void shouldStopReadingPastLimit() {
+        // Arrange
+        byte[] body = LINE.repeat(100_000).getBytes(StandardCharsets.UTF_8);
+        AtomicLong bytesRead = new AtomicLong();
+        InputStream counted = counting(body, bytesRead);
+
+        // Act & Assert
+        assertThatThrownBy(() -> applicantController.createLoansForApplicationsFromNdjson(counted))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("at most 3 items");
+        assertThat(bytesRead.get()).isLessThan(body.length / 100);
+        verify(bulkApplicationService, never()).createLoansForApplications(any());
+    }
+
+    @Test
+    @DisplayName("Should pass every element of a JSON array up to the limit to the bulk service")
+    void shouldReadJsonArrayUpToLimit() {
+        // Act
+        applicantController.createLoansForApplications(new ByteArrayInputStream(jsonArray(3)));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApplicantLoanRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(bulkApplicationService).createLoansForApplications(requests.capture());
+        assertThat(requests.getValue()).hasSize(3);
+        assertThat(requests.getValue().get(2).email()).isEqualTo("ada@example.com");
+    }
+
+    @Test
+    @DisplayName("Should reject a JSON array past the limit without reading the rest of it")
+    void shouldStopReadingJsonArrayPastLimit() {
+        // Arrange
+        byte[] body = jsonArray(100_000);
+        AtomicLong bytesRead = new AtomicLong();
+
+        // Act & Assert
+        assertThatThrownBy(() -> applicantController.createLoansForApplications(counting(body, bytesRead)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("at most 3 items");
+        assertThat(bytesRead.get()).isLessThan(body.length / 100);
+        verify(bulkApplicationService, never()).createLoansForApplications(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a JSON bulk body that is not an array")
+    void shouldRejectJsonBodyThatIsNotArray() {
+        // Act & Assert
+        assertThatThrownBy(() -> applicantController.createLoansForApplications(
+                new ByteArrayInputStream(LINE.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("JSON array");
+    }
+}
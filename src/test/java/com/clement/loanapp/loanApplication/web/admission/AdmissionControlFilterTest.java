@@ -0,0 +1,134 @@
+package com.clement.loanapp.loanApplication.web.admission;
+
+import com.clement.loanapp.loanApplication.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdmissionControlFilter Tests")
+class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private AdmissionControlFilter filter(double requestsPerSecond, int burst, int maxConcurrentApprovals) {
+        AdmissionProperties properties = new AdmissionProperties(requestsPerSecond, burst, 1000, Duration.ofMinutes(10),
+                10, 10, maxConcurrentApprovals, Set.of("partner-key"));
+        return new AdmissionControlFilter(
+                properties,
+                new ClientIdentity(properties),
+                JsonMapper.builder().build(),
+                meterRegistry
+        );
+    }
+
+    private MockHttpServletResponse send(AdmissionControlFilter filter, String method, String path, String remoteAddr,
+                                         FilterChain chain) throws ServletException, IOException {
+        return send(filter, method, path, remoteAddr, null, chain);
+    }
+
+    private MockHttpServletResponse send(AdmissionControlFilter filter, String method, String path, String remoteAddr,
+                                         String apiKey, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader(ClientIdentity.API_KEY_HEADER, apiKey);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private final FilterChain controller = (request, response) -> executions.incrementAndGet();
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a client's bucket is empty")
+    void shouldRateLimitPerClient() throws Exception {
+        // Arrange
+        AdmissionControlFilter filter = filter(0.1, 2, 10);
+
+        // Act
+        send(filter, "GET", "/api/v1/loan/applicants", "10.0.0.1", controller);
+        send(filter, "GET", "/api/v1/loan/applicants", "10.0.0.1", controller);
+        MockHttpServletResponse limited = send(filter, "GET", "/api/v1/loan/applicants", "10.0.0.1", controller);
+        MockHttpServletResponse otherClient = send(filter, "GET", "/api/v1/loan/applicants", "10.0.0.2", controller);
+
+        // Assert
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isNotNull();
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+        assertThat(executions).hasValue(3);
+        assertThat(meterRegistry.get("loan.admission.rejected").tag("reason", "rate_limit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not hand out a fresh bucket for an API key that is not allow-listed")
+    void shouldIgnoreUnknownApiKeys() throws Exception {
+        // Arrange
+        AdmissionControlFilter filter = filter(0.1, 1, 10);
+
+        // Act
+        send(filter, "GET", "/api/v1/loan/applicants", "10.0.0.1", "made-up-1", controller);
+        MockHttpServletResponse rotated =
+                send(filter, "GET", "/api/v1/loan/applicants", "10.0.0.1", "made-up-2", controller);
+        MockHttpServletResponse partner =
+                send(filter, "GET", "/api/v1/loan/applicants", "10.0.0.1", "partner-key", controller);
+
+        // Assert
+        assertThat(rotated.getStatus()).isEqualTo(429);
+        assertThat(partner.getStatus()).isEqualTo(200);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should reject approvals beyond the concurrency cap without touching other classes")
+    void shouldCapConcurrencyPerEndpointClass() throws Exception {
+        // Arrange
+        AdmissionControlFilter filter = filter(1000, 1000, 1);
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        AtomicReference<MockHttpServletResponse> nestedRead = new AtomicReference<>();
+        FilterChain slowApproval = (request, response) -> {
+            // a second approval and a read arrive while this one still holds the only approval permit
+            nested.set(send(filter, "POST", "/api/v1/loan/approve/abc", "10.0.0.2", controller));
+            nestedRead.set(send(filter, "GET", "/api/v1/loan/applicants", "10.0.0.2", controller));
+        };
+
+        // Act
+        MockHttpServletResponse first = send(filter, "POST", "/api/v1/loan/approve/abc", "10.0.0.1", slowApproval);
+        MockHttpServletResponse after = send(filter, "POST", "/api/v1/loan/approve/abc", "10.0.0.2", controller);
+
+        // Assert
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(nested.get().getStatus()).isEqualTo(429);
+        assertThat(nestedRead.get().getStatus()).isEqualTo(200);
+        assertThat(after.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should leave requests outside the loan API alone")
+    void shouldIgnoreOtherPaths() throws Exception {
+        // Arrange
+        AdmissionControlFilter filter = filter(0.1, 1, 0);
+
+        // Act
+        send(filter, "GET", "/actuator/health", "10.0.0.1", controller);
+        send(filter, "GET", "/actuator/health", "10.0.0.1", controller);
+
+        // Assert
+        assertThat(executions).hasValue(2);
+    }
+}
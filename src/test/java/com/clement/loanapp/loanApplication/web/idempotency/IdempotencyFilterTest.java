@@ -0,0 +1,155 @@
+package com.clement.loanapp.loanApplication.web.idempotency;
+
+import com.clement.loanapp.loanApplication.AdmissionProperties;
+import com.clement.loanapp.loanApplication.IdempotencyProperties;
+import com.clement.loanapp.loanApplication.web.admission.ClientIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"email\":\"john.doe@example.com\"}";
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter filter;
+    private int responseStatus;
+
+    private final FilterChain controller = (request, response) -> {
+        executions.incrementAndGet();
+        String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+        var httpResponse = (HttpServletResponse) response;
+        httpResponse.setStatus(responseStatus);
+        httpResponse.setContentType("application/json");
+        httpResponse.getWriter().write("{\"echo\":" + body.length() + "}");
+    };
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        IdempotencyProperties properties = new IdempotencyProperties("memory", Duration.ofMinutes(5), 100,
+                DataSize.ofBytes(64));
+        IdempotencyStore store = new InMemoryIdempotencyStore(properties, meterRegistry);
+        ClientIdentity clientIdentity = new ClientIdentity(new AdmissionProperties(50, 100, 1000,
+                Duration.ofMinutes(10), 10, 10, 10, Set.of()));
+        filter = new IdempotencyFilter(store, properties, clientIdentity, JsonMapper.builder().build(), meterRegistry);
+        responseStatus = 201;
+    }
+
+    private MockHttpServletResponse post(String path, String key, String body) throws Exception {
+        return post(path, key, body, "10.0.0.1");
+    }
+
+    private MockHttpServletResponse post(String path, String key, String body, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddr);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.setContentType("application/json");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response without reaching the controller")
+    void shouldReplayStoredResponse() throws Exception {
+        // Act
+        MockHttpServletResponse first = post("/api/v1/loan/apply", "key-1", BODY);
+        MockHttpServletResponse retry = post("/api/v1/loan/apply", "key-1", BODY);
+
+        // Assert
+        assertThat(executions).hasValue(1);
+        assertThat(first.getContentAsString()).isEqualTo("{\"echo\":" + BODY.length() + "}");
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Should reject a reused key with a different body")
+    void shouldRejectKeyReuseWithDifferentBody() throws Exception {
+        // Arrange
+        post("/api/v1/loan/apply", "key-1", BODY);
+
+        // Act
+        MockHttpServletResponse reused = post("/api/v1/loan/apply", "key-1", "{\"email\":\"jane@example.com\"}");
+
+        // Assert
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the same key from two clients apart")
+    void shouldScopeKeysByClient() throws Exception {
+        // Arrange
+        post("/api/v1/loan/apply", "key-1", BODY, "10.0.0.1");
+
+        // Act
+        MockHttpServletResponse otherClient = post("/api/v1/loan/apply", "key-1", "{}", "10.0.0.2");
+
+        // Assert
+        assertThat(otherClient.getStatus()).isEqualTo(201);
+        assertThat(otherClient.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should refuse a keyed body over the size cap without reaching the controller")
+    void shouldRejectOversizedBody() throws Exception {
+        // Act
+        MockHttpServletResponse response = post("/api/v1/loan/apply", "key-1", "x".repeat(65));
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should not store server errors so the client can retry")
+    void shouldNotStoreServerErrors() throws Exception {
+        // Arrange
+        responseStatus = 503;
+        post("/api/v1/loan/approve/0190a5c8-0000-7000-8000-000000000000", "key-1", "{}");
+        responseStatus = 200;
+
+        // Act
+        MockHttpServletResponse retry = post("/api/v1/loan/approve/0190a5c8-0000-7000-8000-000000000000", "key-1", "{}");
+
+        // Assert
+        assertThat(retry.getStatus()).isEqualTo(200);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should pass requests without a key or on other paths straight through")
+    void shouldIgnoreRequestsOutsideItsScope() throws Exception {
+        // Act
+        post("/api/v1/loan/apply", null, BODY);
+        post("/api/v1/loan/apply", null, BODY);
+        post("/api/v1/loan/apply/bulk", "key-1", BODY);
+        post("/api/v1/loan/apply/bulk", "key-1", BODY);
+
+        // Assert
+        assertThat(executions).hasValue(4);
+    }
+}